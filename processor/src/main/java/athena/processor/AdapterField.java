@@ -0,0 +1,87 @@
+package athena.processor;
+
+import java.util.List;
+
+/**
+ * A JSON field of a type with a generated adapter.
+ */
+final class AdapterField {
+
+    /**
+     * How the field is read and written.
+     */
+    enum Kind {
+        /**
+         * Read and written directly.
+         */
+        STRING, INT, LONG, BOOLEAN,
+        /**
+         * Any other primitive, through the boxed adapter.
+         */
+        PRIMITIVE,
+        /**
+         * Through the adapter of the declared type.
+         */
+        OBJECT,
+        /**
+         * A {@code FortniteObject} or {@code FortniteArray} value.
+         */
+        WRAPPED
+    }
+
+    /**
+     * The field name, the JSON name and the alternate JSON names.
+     */
+    final String name, json;
+    final List<String> alternates;
+    /**
+     * The name of the {@code VarHandle} and the adapter.
+     */
+    final String handle, adapter;
+    final Kind kind;
+    /**
+     * The declared type, {@code Object} if the adapter cannot name it.
+     */
+    final String type;
+    /**
+     * The expression that creates the adapter.
+     */
+    final String adapterType, adapterInitializer;
+    final boolean isVolatile;
+    /**
+     * The declared class if the value must be written with its runtime type, otherwise {@code null}
+     */
+    final String runtimeType;
+    /**
+     * The wrapped name and the adapter of the list for {@link Kind#WRAPPED} fields.
+     */
+    final String wrappedValue, listAdapterType, listAdapterInitializer;
+    final boolean isConstant;
+
+    AdapterField(String name, String json, List<String> alternates, Kind kind, String type, String adapterType, String adapterInitializer,
+                 boolean isVolatile, String runtimeType, String wrappedValue, String listAdapterType, String listAdapterInitializer, boolean isConstant) {
+        this.name = name;
+        this.json = json;
+        this.alternates = alternates;
+        this.handle = AdapterModel.constantName(name);
+        this.adapter = name + "Adapter";
+        this.kind = kind;
+        this.type = type;
+        this.adapterType = adapterType;
+        this.adapterInitializer = adapterInitializer;
+        this.isVolatile = isVolatile;
+        this.runtimeType = runtimeType;
+        this.wrappedValue = wrappedValue;
+        this.listAdapterType = listAdapterType;
+        this.listAdapterInitializer = listAdapterInitializer;
+        this.isConstant = isConstant;
+    }
+
+    /**
+     * @return the name of the list adapter.
+     */
+    String listAdapter() {
+        return name + "ListAdapter";
+    }
+
+}
@@ -0,0 +1,378 @@
+package athena.processor;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * What the adapter of one {@code StreamingAdapter} type reads, writes, requests and runs.
+ * Fields are picked like the GSON instance of {@code AthenaImpl}: static, transient, protected and {@code Request} fields are skipped.
+ */
+final class AdapterModel {
+
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String FORTNITE_OBJECT = "athena.util.json.fortnite.annotation.FortniteObject";
+    private static final String FORTNITE_ARRAY = "athena.util.json.fortnite.annotation.FortniteArray";
+    private static final String POST_DESERIALIZE = "athena.util.json.hooks.PostDeserialize";
+    private static final String REQUEST = "athena.util.json.request.Request";
+
+    /**
+     * The type, its package and the adapter name.
+     */
+    final TypeElement type;
+    final String packageName, typeName, adapterName;
+    /**
+     * The JSON fields, the requested fields and the hooks.
+     */
+    final List<AdapterField> fields = new ArrayList<>();
+    final List<RequestField> requests = new ArrayList<>();
+    final List<String> hooks = new ArrayList<>();
+
+    private final Elements elements;
+    private final Types types;
+    private final Messager messager;
+    private boolean failed;
+
+    private AdapterModel(ProcessingEnvironment environment, TypeElement type) {
+        this.type = type;
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+        this.messager = environment.getMessager();
+        this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        this.typeName = type.getQualifiedName().toString();
+        this.adapterName = type.getSimpleName() + "TypeAdapter";
+    }
+
+    /**
+     * Read the model of {@code type}, errors are reported to the messager.
+     *
+     * @param environment the processing environment
+     * @param type        the type
+     * @return the model or {@code null} if the type is not supported.
+     */
+    static AdapterModel of(ProcessingEnvironment environment, TypeElement type) {
+        final var model = new AdapterModel(environment, type);
+        model.read();
+        return model.failed ? null : model;
+    }
+
+    private void read() {
+        if (type.getKind() != ElementKind.CLASS || type.getNestingKind() != NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "StreamingAdapter types must be concrete top level classes");
+            return;
+        }
+        if (!type.getTypeParameters().isEmpty()) error(type, "StreamingAdapter types cannot be generic");
+        if (!"java.lang.Object".equals(types.erasure(type.getSuperclass()).toString())) error(type, "StreamingAdapter types cannot extend another class");
+        final var constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        if (constructors.stream().noneMatch(constructor -> constructor.getParameters().isEmpty())) error(type, "StreamingAdapter types need a constructor without arguments");
+
+        final var names = new HashSet<String>();
+        for (var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final var request = annotation(field, REQUEST);
+            if (request != null) {
+                readRequest(field, request);
+            } else if (!isExcluded(field)) {
+                readField(field, names);
+            }
+        }
+        for (var method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (annotation(method, POST_DESERIALIZE) != null) readHook(method);
+        }
+        final var constants = new HashSet<String>(Set.of("LOOKUP", "CONSTRUCTOR", "REQUESTED_ITEMS", "REQUESTED_LOCAL"));
+        for (var field : fields) if (!constants.add(field.handle)) error(type, "Field name " + field.name + " clashes with a generated constant");
+        for (var field : requests) if (!constants.add(field.handle)) error(type, "Field name " + field.name + " clashes with a generated constant");
+    }
+
+    /**
+     * Like {@code excludeFieldsWithModifiers(PROTECTED, STATIC, TRANSIENT)}
+     */
+    private static boolean isExcluded(VariableElement field) {
+        final var modifiers = field.getModifiers();
+        return modifiers.contains(Modifier.PROTECTED) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT);
+    }
+
+    private void readField(VariableElement field, Set<String> names) {
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            error(field, "StreamingAdapter fields cannot be final");
+            return;
+        }
+
+        final var name = field.getSimpleName().toString();
+        var json = name;
+        final var alternates = new ArrayList<String>();
+        final var serializedName = annotation(field, SERIALIZED_NAME);
+        if (serializedName != null) {
+            json = (String) value(serializedName, "value");
+            for (var alternate : values(serializedName, "alternate")) alternates.add((String) alternate.getValue());
+        }
+        if (!names.add(json)) error(field, "Multiple JSON fields named " + json);
+        for (var alternate : alternates) if (!names.add(alternate)) error(field, "Multiple JSON fields named " + alternate);
+
+        final var fieldType = field.asType();
+        final var accessible = isAccessible(fieldType);
+        final var type = accessible ? render(fieldType) : "Object";
+        if (type == null) {
+            error(field, "Unsupported field type " + fieldType);
+            return;
+        }
+        final var isVolatile = field.getModifiers().contains(Modifier.VOLATILE);
+        final var adapterInitializer = accessible ? adapterOf(fieldType) : "gson.getAdapter(StreamingAdapters.fieldType(" + typeName + ".class, \"" + name + "\"))";
+        final var adapterType = "TypeAdapter<" + (fieldType.getKind().isPrimitive() ? boxed(fieldType) : type) + ">";
+
+        final var fortniteObject = annotation(field, FORTNITE_OBJECT);
+        final var fortniteArray = annotation(field, FORTNITE_ARRAY);
+        if (fortniteObject != null) {
+            fields.add(new AdapterField(name, json, alternates, AdapterField.Kind.WRAPPED, type, adapterType, adapterInitializer, isVolatile, null,
+                    (String) value(fortniteObject, "value"), null, null, false));
+        } else if (fortniteArray != null) {
+            readArray(field, name, json, alternates, type, isVolatile, fortniteArray);
+        } else {
+            final var kind = kindOf(fieldType);
+            fields.add(new AdapterField(name, json, alternates, kind, type, adapterType, adapterInitializer, isVolatile,
+                    kind == AdapterField.Kind.OBJECT && accessible && isOpen(fieldType) ? render(fieldType) : null, null, null, null, false));
+        }
+    }
+
+    /**
+     * The adapter reads each element, a list also needs the adapter of the declared type to write it.
+     */
+    private void readArray(VariableElement field, String name, String json, List<String> alternates, String type, boolean isVolatile, AnnotationMirror annotation) {
+        final var fieldType = field.asType();
+        final var elementType = (TypeMirror) value(annotation, "type");
+        final var isList = !(Boolean) value(annotation, "isNotList");
+        final var isConstant = (Boolean) value(annotation, "isConstant");
+        final var wrappedValue = (String) value(annotation, "value");
+
+        String adapterType, adapterInitializer;
+        if (isAccessible(elementType)) {
+            adapterType = "TypeAdapter<" + render(elementType) + ">";
+            adapterInitializer = adapterOf(elementType);
+        } else if (!isList && types.isSameType(elementType, fieldType)) {
+            adapterType = "TypeAdapter<Object>";
+            adapterInitializer = "gson.getAdapter(StreamingAdapters.fieldType(" + typeName + ".class, \"" + name + "\"))";
+        } else {
+            error(field, "The FortniteArray type must be accessible from " + packageName);
+            return;
+        }
+
+        String listAdapterType = null, listAdapterInitializer = null;
+        if (isList) {
+            if (!"java.util.List".equals(types.erasure(fieldType).toString()) || !isAccessible(fieldType)) {
+                error(field, "FortniteArray lists must be declared as an accessible java.util.List");
+                return;
+            }
+            listAdapterType = "TypeAdapter<" + type + ">";
+            listAdapterInitializer = adapterOf(fieldType);
+        } else if (!types.isSameType(elementType, fieldType)) {
+            error(field, "The FortniteArray type must be the field type");
+            return;
+        }
+        fields.add(new AdapterField(name, json, alternates, AdapterField.Kind.WRAPPED, type, adapterType, adapterInitializer, isVolatile, null,
+                wrappedValue, listAdapterType, listAdapterInitializer, isConstant));
+    }
+
+    private void readRequest(VariableElement field, AnnotationMirror request) {
+        final var modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.STATIC)) {
+            error(field, "Request fields cannot be final or static");
+            return;
+        }
+        final var item = (TypeMirror) value(request, "item");
+        if (!isAccessible(item)) {
+            error(field, "The requested item must be accessible from " + packageName);
+            return;
+        }
+        final var fieldType = field.asType();
+        requests.add(new RequestField(field.getSimpleName().toString(), render(types.erasure(item)), isAccessible(fieldType) ? render(fieldType) : "Object",
+                (Boolean) value(request, "local"), modifiers.contains(Modifier.VOLATILE)));
+    }
+
+    private void readHook(ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.STATIC) || !method.getParameters().isEmpty() || method.getReturnType().getKind() != TypeKind.VOID) {
+            error(method, "PostDeserialize hooks must be instance methods without arguments that return void");
+            return;
+        }
+        hooks.add(method.getSimpleName().toString());
+    }
+
+    private AdapterField.Kind kindOf(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return AdapterField.Kind.INT;
+            case LONG:
+                return AdapterField.Kind.LONG;
+            case BOOLEAN:
+                return AdapterField.Kind.BOOLEAN;
+            case DECLARED:
+                return "java.lang.String".equals(type.toString()) ? AdapterField.Kind.STRING : AdapterField.Kind.OBJECT;
+            default:
+                return type.getKind().isPrimitive() ? AdapterField.Kind.PRIMITIVE : AdapterField.Kind.OBJECT;
+        }
+    }
+
+    /**
+     * GSON writes values of declared classes with their runtime type, this only matters for types that can have subclasses.
+     */
+    private boolean isOpen(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) return false;
+        final var element = ((DeclaredType) type).asElement();
+        return element.getKind() != ElementKind.ENUM && !element.getModifiers().contains(Modifier.FINAL);
+    }
+
+    /**
+     * @return the expression that creates the adapter of an accessible type.
+     */
+    private String adapterOf(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return "gson.getAdapter(" + type.getKind().name().toLowerCase(Locale.ROOT) + ".class)";
+        if (!isGeneric(type)) return "gson.getAdapter(" + render(type) + ".class)";
+        return "gson.getAdapter(new TypeToken<" + render(type) + ">() {})";
+    }
+
+    private String boxed(TypeMirror type) {
+        return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+    }
+
+    private static boolean isGeneric(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) return isGeneric(((ArrayType) type).getComponentType());
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    /**
+     * Render a type with qualified names, without type annotations.
+     *
+     * @return the type or {@code null} if it cannot be written in source.
+     */
+    private String render(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return type.getKind().name().toLowerCase(Locale.ROOT);
+        switch (type.getKind()) {
+            case ARRAY:
+                final var component = render(((ArrayType) type).getComponentType());
+                return component == null ? null : component + "[]";
+            case DECLARED:
+                final var declared = (DeclaredType) type;
+                final var name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) return name;
+                final var arguments = declared.getTypeArguments().stream().map(this::render).collect(Collectors.toList());
+                if (arguments.contains(null)) return null;
+                return name + "<" + String.join(", ", arguments) + ">";
+            case WILDCARD:
+                final var wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) return bound("? extends ", wildcard.getExtendsBound());
+                if (wildcard.getSuperBound() != null) return bound("? super ", wildcard.getSuperBound());
+                return "?";
+            default:
+                return null;
+        }
+    }
+
+    private String bound(String prefix, TypeMirror bound) {
+        final var rendered = render(bound);
+        return rendered == null ? null : prefix + rendered;
+    }
+
+    /**
+     * @return {@code true} if code in the package of the type can name {@code type}
+     */
+    private boolean isAccessible(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isAccessible(((ArrayType) type).getComponentType());
+            case DECLARED:
+                for (Element element = ((DeclaredType) type).asElement(); element instanceof TypeElement; element = element.getEnclosingElement()) {
+                    final var modifiers = element.getModifiers();
+                    if (modifiers.contains(Modifier.PRIVATE)) return false;
+                    if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(element).getQualifiedName().contentEquals(packageName)) return false;
+                }
+                return ((DeclaredType) type).getTypeArguments().stream().allMatch(this::isAccessible);
+            case WILDCARD:
+                final var wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() == null || isAccessible(wildcard.getExtendsBound()))
+                        && (wildcard.getSuperBound() == null || isAccessible(wildcard.getSuperBound()));
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private static AnnotationMirror annotation(Element element, String name) {
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) return mirror;
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        for (var entry : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) return entry.getValue().getValue();
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> values(AnnotationMirror annotation, String name) {
+        return (List<? extends AnnotationValue>) value(annotation, name);
+    }
+
+    private void error(Element element, String message) {
+        failed = true;
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * @param name a field name
+     * @return the constant name, {@code partyId} is {@code PARTY_ID}
+     */
+    static String constantName(String name) {
+        final var builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final var c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(name.charAt(i - 1))) builder.append('_');
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A field set from {@code Requestable}
+     */
+    static final class RequestField {
+
+        /**
+         * The field name, the name of the {@code VarHandle}, the requested item and the declared type.
+         */
+        final String name, handle, item, type;
+        final boolean local, isVolatile;
+
+        private RequestField(String name, String item, String type, boolean local, boolean isVolatile) {
+            this.name = name;
+            this.handle = constantName(name);
+            this.item = item;
+            this.type = type;
+            this.local = local;
+            this.isVolatile = isVolatile;
+        }
+    }
+
+}
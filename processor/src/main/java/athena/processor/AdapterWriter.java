@@ -0,0 +1,321 @@
+package athena.processor;
+
+import java.util.List;
+
+/**
+ * Writes the source of generated adapters.
+ * Field access goes through {@code VarHandle}s resolved once per type, reads and writes behave like the reflective GSON adapter.
+ */
+final class AdapterWriter {
+
+    /**
+     * The generated adapters and factory are annotated with this value.
+     */
+    static final String GENERATOR = "athena.processor.StreamingAdapterProcessor";
+
+    private final StringBuilder source = new StringBuilder();
+    private int indent;
+
+    /**
+     * Write the adapter of {@code model}
+     *
+     * @param model the model
+     * @return the source
+     */
+    static String adapter(AdapterModel model) {
+        final var writer = new AdapterWriter();
+        writer.writeAdapter(model);
+        return writer.source.toString();
+    }
+
+    /**
+     * Write the factory that creates every adapter.
+     *
+     * @param packageName the package of the factory
+     * @param className   the factory name
+     * @param models      the adapters
+     * @return the source
+     */
+    static String factory(String packageName, String className, List<AdapterModel> models) {
+        final var writer = new AdapterWriter();
+        writer.writeFactory(packageName, className, models);
+        return writer.source.toString();
+    }
+
+    private void writeAdapter(AdapterModel model) {
+        final var type = model.typeName;
+        line("package " + model.packageName + ";");
+        line("");
+        imports();
+        line("/**");
+        line(" * Streaming adapter for {@link " + type + "}, generated from its {@code StreamingAdapter} annotation.");
+        line(" */");
+        line("@Generated(\"" + GENERATOR + "\")");
+        open("public final class " + model.adapterName + " extends TypeAdapter<" + type + "> {");
+        line("");
+        line("private static final MethodHandles.Lookup LOOKUP = StreamingAdapters.lookup(" + type + ".class);");
+        line("private static final MethodHandle CONSTRUCTOR = StreamingAdapters.constructor(LOOKUP, " + type + ".class);");
+        for (var field : model.fields) line("private static final VarHandle " + field.handle + " = StreamingAdapters.field(LOOKUP, " + type + ".class, \"" + field.name + "\");");
+        for (var field : model.requests) line("private static final VarHandle " + field.handle + " = StreamingAdapters.field(LOOKUP, " + type + ".class, \"" + field.name + "\");");
+        for (var hook : model.hooks) line("private static final MethodHandle " + hookName(hook) + " = StreamingAdapters.hook(LOOKUP, " + type + ".class, \"" + hook + "\");");
+        if (!model.requests.isEmpty()) {
+            line("private static final Class<?>[] REQUESTED_ITEMS = {" + join(model.requests, field -> field.item + ".class") + "};");
+            line("private static final boolean[] REQUESTED_LOCAL = {" + join(model.requests, field -> String.valueOf(field.local)) + "};");
+        }
+        line("");
+        line("private final Gson gson;");
+        line("private final Requestable requestable;");
+        line("private final DeserializationErrorHandler errorHandler;");
+        for (var field : model.fields) {
+            if (hasAdapter(field)) line("private final " + field.adapterType + " " + field.adapter + ";");
+            if (field.listAdapterType != null) line("private final " + field.listAdapterType + " " + field.listAdapter() + ";");
+        }
+        if (!model.requests.isEmpty()) {
+            line("");
+            line("/**");
+            line(" * The requested values, {@code null} until they are registered.");
+            line(" */");
+            line("private volatile Object[] requested;");
+        }
+        line("");
+        open("public " + model.adapterName + "(Gson gson, Requestable requestable, DeserializationErrorHandler errorHandler) {");
+        line("this.gson = gson;");
+        line("this.requestable = requestable;");
+        line("this.errorHandler = errorHandler;");
+        for (var field : model.fields) {
+            if (hasAdapter(field)) line("this." + field.adapter + " = " + field.adapterInitializer + ";");
+            if (field.listAdapterType != null) line("this." + field.listAdapter() + " = " + field.listAdapterInitializer + ";");
+        }
+        close("}");
+        line("");
+        writeWrite(model);
+        line("");
+        writeRead(model);
+        if (!model.requests.isEmpty()) {
+            line("");
+            line("/**");
+            line(" * @return the requested values or {@code null} if they are not registered yet.");
+            line(" */");
+            open("private Object[] requested() {");
+            line("var requested = this.requested;");
+            line("if (requested == null) requested = this.requested = requestable.resolve(REQUESTED_ITEMS, REQUESTED_LOCAL);");
+            line("return requested;");
+            close("}");
+        }
+        line("");
+        close("}");
+    }
+
+    private void writeWrite(AdapterModel model) {
+        line("@Override");
+        open("public void write(JsonWriter out, " + model.typeName + " value) throws IOException {");
+        open("if (value == null) {");
+        line("out.nullValue();");
+        line("return;");
+        close("}");
+        line("out.beginObject();");
+        for (var field : model.fields) {
+            line("out.name(" + literal(field.json) + ");");
+            final var get = (field.type.equals("Object") ? "" : "(" + field.type + ") ") + field.handle + (field.isVolatile ? ".getVolatile(value)" : ".get(value)");
+            switch (field.kind) {
+                case STRING:
+                case INT:
+                case LONG:
+                case BOOLEAN:
+                    line("out.value(" + get + ");");
+                    break;
+                case WRAPPED:
+                    final var adapter = field.listAdapterType == null ? field.adapter : field.listAdapter();
+                    line("FortniteTypeAdapterFactory.writeWrapped(out, " + literal(field.wrappedValue) + ", " + adapter + ", " + get + ", " + field.isConstant + ");");
+                    break;
+                default:
+                    if (field.runtimeType == null) {
+                        line(field.adapter + ".write(out, " + get + ");");
+                    } else {
+                        line("StreamingAdapters.write(gson, out, " + field.adapter + ", " + field.runtimeType + ".class, " + get + ");");
+                    }
+            }
+        }
+        line("out.endObject();");
+        close("}");
+    }
+
+    private void writeRead(AdapterModel model) {
+        line("@Override");
+        open("public " + model.typeName + " read(JsonReader in) throws IOException {");
+        open("if (in.peek() == JsonToken.NULL) {");
+        line("in.nextNull();");
+        line("return null;");
+        close("}");
+        line("final var value = (" + model.typeName + ") StreamingAdapters.instantiate(CONSTRUCTOR);");
+        open("try {");
+        line("in.beginObject();");
+        open("while (in.hasNext()) {");
+        open("switch (in.nextName()) {");
+        for (var field : model.fields) {
+            line("case " + literal(field.json) + ":");
+            for (var alternate : field.alternates) line("case " + literal(alternate) + ":");
+            indent++;
+            writeReadField(field);
+            line("break;");
+            indent--;
+        }
+        line("default:");
+        line("    in.skipValue();");
+        close("}");
+        close("}");
+        close("} catch (IllegalStateException exception) {");
+        line("    throw new JsonSyntaxException(exception);");
+        line("}");
+        line("in.endObject();");
+        for (var hook : model.hooks) line("Hooks.invoke(" + hookName(hook) + ", value, errorHandler);");
+        if (model.requests.isEmpty()) {
+            line("return value;");
+        } else {
+            line("final var requested = requested();");
+            open("if (requested != null) {");
+            for (int i = 0; i < model.requests.size(); i++) {
+                final var field = model.requests.get(i);
+                final var cast = field.type.equals("Object") ? "" : "(" + field.type + ") ";
+                line(field.handle + (field.isVolatile ? ".setVolatile" : ".set") + "(value, " + cast + "requested[" + i + "]);");
+            }
+            close("}");
+            line("return requestable.canonicalize(value);");
+        }
+        close("}");
+    }
+
+    private void writeReadField(AdapterField field) {
+        final var set = field.handle + (field.isVolatile ? ".setVolatile" : ".set") + "(value, ";
+        switch (field.kind) {
+            case STRING:
+                line(set + "StreamingAdapters.readString(in));");
+                break;
+            case INT:
+            case LONG:
+            case BOOLEAN:
+                // GSON leaves primitives alone for null values.
+                final var method = field.kind == AdapterField.Kind.INT ? "readInt" : field.kind == AdapterField.Kind.LONG ? "readLong" : "readBoolean";
+                open("if (in.peek() == JsonToken.NULL) {");
+                line("in.nextNull();");
+                close("} else {");
+                line("    " + set + "StreamingAdapters." + method + "(in));");
+                line("}");
+                break;
+            case PRIMITIVE:
+                open("{");
+                line("final var read = " + field.adapter + ".read(in);");
+                line("if (read != null) " + set + "(" + field.type + ") read);");
+                close("}");
+                break;
+            case WRAPPED:
+                line(set + "FortniteTypeAdapterFactory.<" + field.type + ">readWrapped(in, " + literal(field.wrappedValue) + ", " + field.adapter + ", " + field.isConstant + "));");
+                break;
+            default:
+                line(set + field.adapter + ".read(in));");
+        }
+    }
+
+    private void writeFactory(String packageName, String className, List<AdapterModel> models) {
+        line("package " + packageName + ";");
+        line("");
+        imports();
+        line("/**");
+        line(" * Creates the generated adapter of every {@code StreamingAdapter} type, register it after the reflective factories so it is used first.");
+        line(" */");
+        line("@Generated(\"" + GENERATOR + "\")");
+        open("public final class " + className + " implements TypeAdapterFactory {");
+        line("");
+        line("private final Requestable requestable;");
+        line("private final DeserializationErrorHandler errorHandler;");
+        line("");
+        line("/**");
+        line(" * @param requestable  provides the requested fields");
+        line(" * @param errorHandler receives hook failures, {@code null} to log them.");
+        line(" */");
+        open("public " + className + "(Requestable requestable, DeserializationErrorHandler errorHandler) {");
+        line("this.requestable = requestable;");
+        line("this.errorHandler = errorHandler;");
+        close("}");
+        line("");
+        line("@Override");
+        line("@SuppressWarnings(\"unchecked\")");
+        open("public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {");
+        line("final var rawType = type.getRawType();");
+        for (var model : models) {
+            line("if (rawType == " + model.typeName + ".class) return (TypeAdapter<T>) new " + model.packageName + "." + model.adapterName + "(gson, requestable, errorHandler);");
+        }
+        line("return null;");
+        close("}");
+        line("");
+        close("}");
+    }
+
+    private void imports() {
+        for (var name : List.of("athena.util.json.DeserializationErrorHandler", "athena.util.json.adapter.StreamingAdapters", "athena.util.json.fortnite.FortniteTypeAdapterFactory",
+                "athena.util.json.hooks.Hooks", "athena.util.json.request.Requestable", "com.google.gson.Gson", "com.google.gson.JsonSyntaxException",
+                "com.google.gson.TypeAdapter", "com.google.gson.TypeAdapterFactory", "com.google.gson.reflect.TypeToken", "com.google.gson.stream.JsonReader",
+                "com.google.gson.stream.JsonToken", "com.google.gson.stream.JsonWriter", "java.io.IOException", "java.lang.invoke.MethodHandle",
+                "java.lang.invoke.MethodHandles", "java.lang.invoke.VarHandle", "javax.annotation.processing.Generated")) {
+            line("import " + name + ";");
+        }
+        line("");
+    }
+
+    private static boolean hasAdapter(AdapterField field) {
+        switch (field.kind) {
+            case PRIMITIVE:
+            case OBJECT:
+            case WRAPPED:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String hookName(String hook) {
+        return AdapterModel.constantName(hook) + "_HOOK";
+    }
+
+    private static <T> String join(List<T> values, java.util.function.Function<T, String> mapper) {
+        final var builder = new StringBuilder();
+        for (var value : values) {
+            if (builder.length() > 0) builder.append(", ");
+            builder.append(mapper.apply(value));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return {@code value} as a Java string literal.
+     */
+    private static String literal(String value) {
+        final var builder = new StringBuilder("\"");
+        for (var c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private void open(String line) {
+        line(line);
+        indent++;
+    }
+
+    private void close(String line) {
+        indent--;
+        line(line);
+    }
+
+    private void line(String line) {
+        if (!line.isEmpty()) source.append("    ".repeat(indent)).append(line);
+        source.append('\n');
+    }
+
+}
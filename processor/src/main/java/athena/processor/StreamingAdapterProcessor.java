@@ -0,0 +1,77 @@
+package athena.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a streaming {@code TypeAdapter} for each type annotated with {@code athena.util.json.adapter.StreamingAdapter}
+ * and a {@code StreamingTypeAdapterFactory} that creates them.
+ * The annotation is referenced by name so this project does not depend on athena.
+ */
+@SupportedAnnotationTypes(StreamingAdapterProcessor.ANNOTATION)
+public final class StreamingAdapterProcessor extends AbstractProcessor {
+
+    /**
+     * The annotation, the package and name of the factory.
+     */
+    static final String ANNOTATION = "athena.util.json.adapter.StreamingAdapter";
+    private static final String FACTORY_PACKAGE = "athena.util.json.adapter";
+    private static final String FACTORY_NAME = "StreamingTypeAdapterFactory";
+
+    /**
+     * {@code true} once the factory was written, it can only be written once.
+     */
+    private boolean factoryWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final var annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) return false;
+
+        final var models = new ArrayList<AdapterModel>();
+        for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!(element instanceof TypeElement)) continue;
+            final var model = AdapterModel.of(processingEnv, (TypeElement) element);
+            if (model == null) continue;
+            write(model.packageName + "." + model.adapterName, AdapterWriter.adapter(model), model.type);
+            models.add(model);
+        }
+        if (models.isEmpty()) return true;
+
+        if (factoryWritten) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "StreamingAdapter types must not be generated by other processors", models.get(0).type);
+            return true;
+        }
+        factoryWritten = true;
+        write(FACTORY_PACKAGE + "." + FACTORY_NAME, AdapterWriter.factory(FACTORY_PACKAGE, FACTORY_NAME, models), originatingElements(models));
+        return true;
+    }
+
+    private static Element[] originatingElements(List<AdapterModel> models) {
+        return models.stream().map(model -> model.type).toArray(Element[]::new);
+    }
+
+    private void write(String name, String source, Element... originatingElements) {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, originatingElements).openWriter()) {
+            writer.write(source);
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + name + ": " + exception.getMessage(), originatingElements[0]);
+        }
+    }
+
+}
@@ -0,0 +1,269 @@
+package athena;
+
+import athena.events.resource.download.event.FortniteEventDownload;
+import athena.party.resource.member.meta.PartyMemberMeta;
+import athena.party.resource.meta.PartyMeta;
+import athena.presence.resource.FortnitePresence;
+import athena.stats.resource.UnfilteredStatistic;
+import athena.util.json.request.Requestable;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.jxmpp.jid.Jid;
+import org.jxmpp.jid.impl.JidCreate;
+import org.jxmpp.stringprep.XmppStringprepException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization through the same adapter stack {@link AthenaImpl} uses: generated adapters, hooks, requestables and fortnite adapters.
+ * Each benchmark also runs with GSON's reflective adapters to compare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    /**
+     * The generated adapters or GSON's reflective ones.
+     */
+    @Param({"generated", "reflective"})
+    public String adapters;
+
+    private Gson gson;
+    private String partyMeta, partyMemberMeta, presence, otherPresence, statistic, eventDownload;
+    private Jid from;
+
+    @Setup
+    public void setup() throws XmppStringprepException {
+        gson = createGson();
+        partyMeta = partyMetaJson();
+        partyMemberMeta = partyMemberMetaJson();
+        presence = presenceJson();
+        otherPresence = "{\"Status\":\"Online\",\"bIsPlaying\":true,\"ProductName\":\"Launcher\",\"Properties\":{\"Launcher_s\":\"10.15.2\"}}";
+        from = JidCreate.from("b3e5b1c0c1e0471e9a3c5d1c9c8f7a61@prod.ol.epicgames.com/V2:Fortnite:WIN::0");
+        statistic = statisticJson();
+        eventDownload = eventDownloadJson();
+    }
+
+    @Benchmark
+    public PartyMeta partyMeta() {
+        return gson.fromJson(partyMeta, PartyMeta.class);
+    }
+
+    @Benchmark
+    public PartyMemberMeta partyMemberMeta() {
+        return gson.fromJson(partyMemberMeta, PartyMemberMeta.class);
+    }
+
+    @Benchmark
+    public FortnitePresence fortnitePresence() {
+        return FortnitePresence.of(gson, from, presence);
+    }
+
+    /**
+     * Reading the presence and one of its properties, what most presence listeners do.
+     */
+    @Benchmark
+    public String fortnitePresencePlaylist() {
+        return FortnitePresence.of(gson, from, presence).playlist();
+    }
+
+    /**
+     * A presence from another product, rejected before anything is deserialized.
+     */
+    @Benchmark
+    public FortnitePresence otherPresence() {
+        return FortnitePresence.of(gson, from, otherPresence);
+    }
+
+    @Benchmark
+    public UnfilteredStatistic unfilteredStatistic() {
+        return gson.fromJson(statistic, UnfilteredStatistic.class);
+    }
+
+    @Benchmark
+    public FortniteEventDownload fortniteEventDownload() {
+        return gson.fromJson(eventDownload, FortniteEventDownload.class);
+    }
+
+    /**
+     * The first party meta read by a new GSON instance, this includes creating the adapters.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public PartyMeta firstPartyMeta() {
+        return createGson().fromJson(partyMeta, PartyMeta.class);
+    }
+
+    /**
+     * @return a GSON instance with the adapters of {@link #adapters}
+     */
+    private Gson createGson() {
+        // no athena instance, requestable fields are left null.
+        final var requestable = Requestable.allOf(null, AthenaImpl.REQUESTABLE_TYPES);
+        return adapters.equals("generated") ? AthenaImpl.createGson(requestable, null) : AthenaImpl.createReflectiveGson(requestable, null);
+    }
+
+    /**
+     * @return a party meta like the ones sent with party stanzas.
+     */
+    public static String partyMetaJson() {
+        final var meta = new JsonObject();
+        meta.addProperty("PartyMatchmakingInfo_j", "{\"PartyMatchmakingInfo\":{\"buildId\":-1,\"hotfixVersion\":-1,\"regionId\":\"\",\"playlistName\":\"None\",\"tournamentId\":\"\",\"eventWindowId\":\"\",\"linkCode\":\"\"}}");
+        meta.addProperty("PlatformSessions_j", "{\"PlatformSessions\":[]}");
+        meta.addProperty("PrivacySettings_j", "{\"PrivacySettings\":{\"partyType\":\"Public\",\"partyInviteRestriction\":\"AnyMember\",\"bOnlyLeaderFriendsCanJoin\":false}}");
+        meta.addProperty("RawSquadAssignments_j", "{\"RawSquadAssignments\":[{\"memberId\":\"b3e5b1c0c1e0471e9a3c5d1c9c8f7a61\",\"absoluteMemberIdx\":0},{\"memberId\":\"4f9c1a3d2b8e4c6f8a7d6e5f4c3b2a19\",\"absoluteMemberIdx\":1}]}");
+        meta.addProperty("PlaylistData_j", "{\"PlaylistData\":{\"playlistName\":\"Playlist_DefaultDuo\",\"tournamentId\":\"\",\"eventWindowId\":\"\",\"regionId\":\"NAE\"}}");
+        meta.addProperty("LobbyConnectionStarted_b", "false");
+        meta.addProperty("ZoneInstanceId_s", "");
+        meta.addProperty("urn:epic:cfg:party-type-id_s", "default");
+        meta.addProperty("urn:epic:cfg:build-id_s", "1:1:");
+        meta.addProperty("urn:epic:cfg:presence-perm_s", "Anyone");
+        meta.addProperty("urn:epic:cfg:accepting-members_b", "true");
+        meta.addProperty("AllowJoinInProgress_b", "false");
+        meta.addProperty("urn:epic:cfg:join-request-action_s", "Manual");
+        meta.addProperty("LFGTime_s", "0001-01-01T00:00:00.000Z");
+        meta.addProperty("urn:epic:cfg:invite-perm_s", "Anyone");
+        meta.addProperty("MatchmakingState_s", "NotMatchmaking");
+        meta.addProperty("PartyState_s", "BattleRoyaleView");
+        meta.addProperty("urn:epic:cfg:chat-enabled_b", "true");
+        meta.addProperty("AthenaSquadFill_b", "true");
+        return meta.toString();
+    }
+
+    /**
+     * @return a party member meta like the ones sent with party member stanzas.
+     */
+    public static String partyMemberMetaJson() {
+        final var meta = new JsonObject();
+        meta.addProperty("CampaignHero_j", "{\"CampaignHero\":{\"heroItemInstanceId\":\"\",\"heroType\":\"FortHeroType'/Game/Athena/Heroes/HID_001_Athena_Commando_F.HID_001_Athena_Commando_F'\"}}");
+        meta.addProperty("MemberSquadAssignmentRequest_j", "{\"MemberSquadAssignmentRequest\":{\"startingAbsoluteIdx\":-1,\"targetAbsoluteIdx\":-1,\"swapTargetMemberId\":\"INVALID\",\"version\":0}}");
+        meta.addProperty("AssistedChallengeInfo_j", "{\"AssistedChallengeInfo\":{\"questItemDef\":\"None\",\"objectivesCompleted\":0}}");
+        meta.addProperty("BattlePassInfo_j", "{\"BattlePassInfo\":{\"bHasPurchasedPass\":false,\"passLevel\":1,\"selfBoostXp\":0,\"friendBoostXp\":0}}");
+        meta.addProperty("FrontendEmote_j", "{\"FrontendEmote\":{\"emoteItemDef\":\"None\",\"emoteEKey\":\"\",\"emoteSection\":-1}}");
+        meta.addProperty("AthenaBannerInfo_j", "{\"AthenaBannerInfo\":{\"bannerIconId\":\"standardbanner15\",\"bannerColorId\":\"defaultcolor17\",\"seasonLevel\":1}}");
+        meta.addProperty("Platform_j", "{\"Platform\":{\"platformStr\":\"WIN\"}}");
+        meta.addProperty("AthenaCosmeticLoadout_j", "{\"AthenaCosmeticLoadout\":{\"characterDef\":\"AthenaCharacterItemDefinition'/Game/Athena/Items/Cosmetics/Characters/CID_001_Athena_Commando_F_Default.CID_001_Athena_Commando_F_Default'\",\"characterEKey\":\"\",\"backpackDef\":\"None\",\"backpackEKey\":\"\",\"pickaxeDef\":\"AthenaPickaxeItemDefinition'/Game/Athena/Items/Cosmetics/Pickaxes/DefaultPickaxe.DefaultPickaxe'\",\"pickaxeEKey\":\"\",\"contrailDef\":\"None\",\"contrailEKey\":\"\",\"scratchpad\":[],\"variants\":[]}}");
+        meta.addProperty("urn:epic:member:dn_s", "athena");
+        meta.addProperty("CurrentInputType_s", "MouseAndKeyboard");
+        meta.addProperty("UtcTimeStartedMatchAthena_s", "0001-01-01T00:00:00.000Z");
+        meta.addProperty("Location_s", "PreLobby");
+        meta.addProperty("CrossplayPreference_s", "OptedIn");
+        meta.addProperty("GameReadiness_s", "NotReady");
+        meta.addProperty("VoiceChatStatus_s", "Disabled");
+        meta.addProperty("HasPreloadedAthena_b", "false");
+        meta.addProperty("NumAthenaPlayersLeft_U", "0");
+        return meta.toString();
+    }
+
+    /**
+     * @return a presence status like the ones sent with presence stanzas.
+     */
+    public static String presenceJson() {
+        final var properties = new JsonObject();
+        properties.addProperty("KairosProfile_s", "{\"avatar\":\"cid_001_athena_commando_f_default\",\"avatarBackground\":\"[\\\"#B4F2FE\\\",\\\"#00ACF2\\\",\\\"#005679\\\"]\"}");
+        properties.addProperty("GamePlaylistName_s", "Playlist_DefaultDuo");
+        properties.addProperty("Event_PlayersAlive_s", "48");
+        properties.addProperty("Event_PartySize_s", "2");
+        properties.addProperty("Event_PartyMaxSize_s", "16");
+        properties.addProperty("GameSessionJoinKey_s", "");
+        final var stats = new JsonObject();
+        stats.addProperty("state", "Playing");
+        stats.addProperty("playlist", "Playlist_DefaultDuo");
+        stats.addProperty("numKills", 3);
+        stats.addProperty("bFellToDeath", false);
+        properties.add("FortGameplayStats_j", stats);
+
+        final var presence = new JsonObject();
+        presence.addProperty("Status", "Battle Royale Lobby - 2 / 16");
+        presence.addProperty("bIsPlaying", false);
+        presence.addProperty("bIsJoinable", true);
+        presence.addProperty("bHasVoiceSupport", false);
+        presence.addProperty("SessionId", "");
+        presence.addProperty("ProductName", "Fortnite");
+        presence.add("Properties", properties);
+        return presence.toString();
+    }
+
+    /**
+     * @return an unfiltered statistic from statsproxy.
+     */
+    public static String statisticJson() {
+        final var stats = new JsonObject();
+        for (var input : new String[]{"keyboardmouse", "gamepad", "touch"}) {
+            for (var playlist : new String[]{"defaultsolo", "defaultduo", "defaultsquad"}) {
+                for (var type : new String[]{"placetop1", "kills", "matchesplayed", "minutesplayed", "score", "playersoutlived"}) {
+                    stats.addProperty("br_" + type + "_" + input + "_m0_playlist_" + playlist, 100);
+                }
+            }
+        }
+
+        final var statistic = new JsonObject();
+        statistic.addProperty("startTime", 0);
+        statistic.addProperty("endTime", Long.MAX_VALUE);
+        statistic.addProperty("accountId", "b3e5b1c0c1e0471e9a3c5d1c9c8f7a61");
+        statistic.add("stats", stats);
+        return statistic.toString();
+    }
+
+    /**
+     * @return an event download from the events service.
+     */
+    public static String eventDownloadJson() {
+        final var events = new JsonArray();
+        for (int i = 0; i < 20; i++) {
+            final var window = new JsonObject();
+            window.addProperty("eventWindowId", "S12_FNCS_Week" + i + "_NAE_Event1");
+            window.addProperty("eventTemplateId", "eventTemplate_S12_FNCS_Week" + i);
+            window.addProperty("countdownBeginTime", "2020-05-01T00:00:00.000Z");
+            window.addProperty("beginTime", "2020-05-02T00:00:00.000Z");
+            window.addProperty("endTime", "2020-05-02T03:00:00.000Z");
+            window.addProperty("round", 0);
+            window.addProperty("payoutDelay", 30);
+            window.addProperty("isTBD", false);
+            window.addProperty("visibility", "public");
+            window.add("requireAllTokens", new JsonArray());
+            window.add("requireAnyTokens", new JsonArray());
+
+            final var windows = new JsonArray();
+            windows.add(window);
+            final var regions = new JsonArray();
+            regions.add("NAE");
+            final var platforms = new JsonArray();
+            platforms.add("Windows");
+            platforms.add("PS4");
+
+            final var event = new JsonObject();
+            event.addProperty("eventId", "epicgames_S12_FNCS_Week" + i);
+            event.addProperty("displayDataId", "s12_fncs");
+            event.addProperty("appId", "Fortnite");
+            event.addProperty("environment", "");
+            event.addProperty("announcementTime", "2020-04-20T00:00:00.000Z");
+            event.add("regions", regions);
+            event.add("platforms", platforms);
+            event.add("eventWindows", windows);
+            events.add(event);
+        }
+
+        final var player = new JsonObject();
+        player.addProperty("accountId", "b3e5b1c0c1e0471e9a3c5d1c9c8f7a61");
+        player.add("tokens", new JsonArray());
+        player.add("pendingPayouts", new JsonArray());
+
+        final var download = new JsonObject();
+        download.add("player", player);
+        download.add("events", events);
+        download.add("templates", new JsonArray());
+        return download.toString();
+    }
+
+}
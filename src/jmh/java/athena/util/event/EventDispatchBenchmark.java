@@ -0,0 +1,96 @@
+package athena.util.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatching an event through {@link EventFactory#invoke(Class, Object...)} to annotated listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventDispatchBenchmark {
+
+    /**
+     * The amount of registered listeners.
+     */
+    @Param({"1", "10"})
+    private int listeners;
+
+    private EventFactory factory;
+    private Event event;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        factory = EventFactory.createAnnotatedFactory(Subscribe.class);
+        for (int i = 0; i < listeners; i++) factory.registerEventListener(new Listener(blackhole));
+        event = new Event("b3e5b1c0c1e0471e9a3c5d1c9c8f7a61");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.dispose();
+    }
+
+    @Benchmark
+    public void invoke() {
+        factory.invoke(Subscribe.class, event);
+    }
+
+    @Benchmark
+    public void invokeWithoutArguments() {
+        factory.invoke(Subscribe.class);
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Subscribe {
+    }
+
+    /**
+     * The event type.
+     */
+    public static final class Event {
+        private final String accountId;
+
+        private Event(String accountId) {
+            this.accountId = accountId;
+        }
+    }
+
+    /**
+     * A listener like the ones registered by users, one method with the event and one without.
+     */
+    public static final class Listener {
+        private final Blackhole blackhole;
+
+        private Listener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Subscribe
+        public void onEvent(Event event) {
+            blackhole.consume(event.accountId);
+        }
+
+        @Subscribe
+        public void onAnything() {
+            blackhole.consume(this);
+        }
+    }
+
+}
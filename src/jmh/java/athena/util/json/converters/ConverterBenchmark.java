@@ -0,0 +1,59 @@
+package athena.util.json.converters;
+
+import com.google.gson.stream.JsonReader;
+import org.jxmpp.jid.Jid;
+import org.jxmpp.jid.impl.JidCreate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached converters against parsing each value again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+    private static final String TIME = "2020-01-23T12:30:45.123Z";
+    private static final String JID = "b3e5b1c0c1e0471e9a3c5d1c9c8f7a61@prod.ol.epicgames.com";
+
+    private InstantConverter instantConverter;
+    private JidConverter jidConverter;
+
+    @Setup
+    public void setup() {
+        instantConverter = new InstantConverter();
+        jidConverter = new JidConverter();
+    }
+
+    @Benchmark
+    public Instant instant() throws IOException {
+        return instantConverter.read(new JsonReader(new StringReader('"' + TIME + '"')));
+    }
+
+    @Benchmark
+    public Instant instantParse() {
+        return Instant.parse(TIME);
+    }
+
+    @Benchmark
+    public Jid jid() throws IOException {
+        return jidConverter.read(new JsonReader(new StringReader('"' + JID + '"')));
+    }
+
+    @Benchmark
+    public Jid jidCreate() {
+        return JidCreate.fromOrNull(JID);
+    }
+
+}
@@ -0,0 +1,103 @@
+package athena.util.json.fortnite;
+
+import athena.JsonBenchmark;
+import athena.party.resource.member.meta.PartyMemberMeta;
+import athena.party.resource.meta.PartyMeta;
+import athena.types.Input;
+import athena.types.Platform;
+import athena.util.json.converters.InputConverter;
+import athena.util.json.converters.InstantConverter;
+import athena.util.json.converters.PlatformConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapterFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing with the streaming {@link FortniteTypeAdapterFactory} against the tree based {@link LegacyFortniteTypeAdapterFactory}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FortniteAdapterBenchmark {
+
+    private Gson streaming, tree;
+    private String partyMeta, partyMemberMeta;
+    private PartyMeta partyMetaValue;
+    private PartyMemberMeta partyMemberMetaValue;
+
+    @Setup
+    public void setup() {
+        streaming = create(FortniteTypeAdapterFactory.of(PartyMeta.class), FortniteTypeAdapterFactory.of(PartyMemberMeta.class));
+        tree = create(LegacyFortniteTypeAdapterFactory.of(PartyMeta.class), LegacyFortniteTypeAdapterFactory.of(PartyMemberMeta.class));
+        partyMeta = JsonBenchmark.partyMetaJson();
+        partyMemberMeta = JsonBenchmark.partyMemberMetaJson();
+        partyMetaValue = streaming.fromJson(partyMeta, PartyMeta.class);
+        partyMemberMetaValue = streaming.fromJson(partyMemberMeta, PartyMemberMeta.class);
+    }
+
+    @Benchmark
+    public PartyMeta partyMetaStreaming() {
+        return streaming.fromJson(partyMeta, PartyMeta.class);
+    }
+
+    @Benchmark
+    public PartyMeta partyMetaTree() {
+        return tree.fromJson(partyMeta, PartyMeta.class);
+    }
+
+    @Benchmark
+    public PartyMemberMeta partyMemberMetaStreaming() {
+        return streaming.fromJson(partyMemberMeta, PartyMemberMeta.class);
+    }
+
+    @Benchmark
+    public PartyMemberMeta partyMemberMetaTree() {
+        return tree.fromJson(partyMemberMeta, PartyMemberMeta.class);
+    }
+
+    @Benchmark
+    public String writePartyMetaStreaming() {
+        return streaming.toJson(partyMetaValue);
+    }
+
+    @Benchmark
+    public String writePartyMetaTree() {
+        return tree.toJson(partyMetaValue);
+    }
+
+    @Benchmark
+    public String writePartyMemberMetaStreaming() {
+        return streaming.toJson(partyMemberMetaValue);
+    }
+
+    @Benchmark
+    public String writePartyMemberMetaTree() {
+        return tree.toJson(partyMemberMetaValue);
+    }
+
+    /**
+     * Create a GSON instance with the converters the meta types need.
+     *
+     * @param factories the fortnite adapter factories
+     * @return a new {@link Gson}
+     */
+    private static Gson create(TypeAdapterFactory... factories) {
+        final var builder = new GsonBuilder();
+        for (var factory : factories) builder.registerTypeAdapterFactory(factory);
+        builder.registerTypeAdapter(Input.class, new InputConverter());
+        builder.registerTypeAdapter(Instant.class, new InstantConverter());
+        builder.registerTypeAdapter(Platform.class, new PlatformConverter());
+        return builder.create();
+    }
+
+}
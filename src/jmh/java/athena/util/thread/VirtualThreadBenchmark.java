@@ -0,0 +1,201 @@
+package athena.util.thread;
+
+import athena.util.request.Requests;
+import com.google.gson.JsonObject;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit2.Call;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+import retrofit2.http.GET;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many concurrent calls on the {@link Dispatcher} the way {@code AthenaImpl} builds it: OkHttp's own cached platform thread pool (the default)
+ * or {@link ThreadExecutors#newVirtualThreadPerTaskExecutor()} ({@code Athena.Builder#virtualThreads()}), with the dispatcher limits applied.
+ * <p>
+ * {@link #asyncCalls(Resources)} enqueues through {@link Requests#executeCallAsync(Call)} so the dispatcher and its limits schedule the calls,
+ * {@link #blockingCalls(Resources)} runs {@link Requests#executeCall(Call)} on the dispatcher executor like athena does for refreshes and other blocking work.
+ * <p>
+ * The client is stubbed with an interceptor that waits {@code latency} milliseconds and returns a small stats body, so no network is used.
+ * Each invocation is one batch of {@code calls} requests, the score is the time per batch.
+ * The peak thread count and resident set size (Linux only, {@code -1} elsewhere) are reported as secondary results.
+ * The virtual model fails in setup on runtimes without virtual threads instead of silently measuring a cached pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class VirtualThreadBenchmark {
+
+    /**
+     * The dispatcher executor.
+     */
+    @Param({"platform", "virtual"})
+    private String model;
+
+    /**
+     * The dispatcher limits as "maxRequests/maxRequestsPerHost", the first are the defaults of {@code Athena.Builder}
+     * Every stubbed call goes to the same host, so the defaults bound a batch by the per host limit.
+     */
+    @Param({"64/5", "10000/10000"})
+    private String limits;
+
+    /**
+     * The amount of concurrent calls in each batch.
+     */
+    @Param({"1000", "5000"})
+    private int calls;
+
+    /**
+     * The simulated server latency in milliseconds.
+     */
+    @Param({"50"})
+    private int latency;
+
+    private OkHttpClient client;
+    private StatsService service;
+
+    @Setup
+    public void setup() {
+        final var virtual = model.equals("virtual");
+        if (virtual && !ThreadExecutors.virtualThreadsSupported()) {
+            throw new IllegalStateException("This runtime does not support virtual threads, run the virtual model on JDK 21 or later.");
+        }
+
+        // same as AthenaImpl, a null executor leaves OkHttp's default pool.
+        final var executor = virtual ? ThreadExecutors.newVirtualThreadPerTaskExecutor() : null;
+        final var dispatcher = executor == null ? new Dispatcher() : new Dispatcher(executor);
+        final var split = limits.split("/");
+        dispatcher.setMaxRequests(Integer.parseInt(split[0]));
+        dispatcher.setMaxRequestsPerHost(Integer.parseInt(split[1]));
+
+        final var body = "{\"stats\":{\"br_kills_keyboardmouse_m0_playlist_defaultsolo\":12,\"br_placetop1_keyboardmouse_m0_playlist_defaultsolo\":1},\"accountId\":\"b3e5b1c0c1e0471e9a3c5d1c9c8f7a61\"}";
+        client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(chain -> {
+                    try {
+                        Thread.sleep(latency);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(exception);
+                    }
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200)
+                            .message("OK")
+                            .body(ResponseBody.create(body, MediaType.get("application/json")))
+                            .build();
+                })
+                .build();
+        service = new Retrofit.Builder()
+                .baseUrl("https://statsproxy-public-service-live.ol.epicgames.com/")
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(StatsService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.dispatcher().executorService().shutdownNow();
+    }
+
+    @Benchmark
+    public int asyncCalls(Resources resources) throws InterruptedException, ExecutionException {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        final var futures = new ArrayList<Future<JsonObject>>(calls);
+        for (int i = 0; i < calls; i++) futures.add(Requests.executeCallAsync(service.stats()));
+        return await(futures, resources);
+    }
+
+    @Benchmark
+    public int blockingCalls(Resources resources) throws InterruptedException, ExecutionException {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        final var executor = client.dispatcher().executorService();
+        final var futures = new ArrayList<Future<JsonObject>>(calls);
+        for (int i = 0; i < calls; i++) futures.add(executor.submit(() -> Requests.executeCall(service.stats())));
+        return await(futures, resources);
+    }
+
+    /**
+     * Wait for a batch and record the secondary results.
+     *
+     * @param futures   the calls
+     * @param resources the secondary results
+     * @return the total size of the results.
+     */
+    private static int await(ArrayList<Future<JsonObject>> futures, Resources resources) throws InterruptedException, ExecutionException {
+        var size = 0;
+        for (var future : futures) size += future.get().size();
+        resources.peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+        resources.rssKb = residentSetSize();
+        return size;
+    }
+
+    /**
+     * Secondary results, set once per batch.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Resources {
+        public long peakThreads;
+        public long rssKb;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            peakThreads = 0;
+            rssKb = 0;
+        }
+    }
+
+    /**
+     * @return the resident set size in kilobytes, or {@code -1} if it could not be read.
+     */
+    private static long residentSetSize() {
+        try {
+            for (var line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        } catch (IOException | NumberFormatException ignored) {
+            // not linux
+        }
+        return -1;
+    }
+
+    /**
+     * A stats lookup, answered by the stub interceptor.
+     */
+    private interface StatsService {
+        @GET("statsproxy/api/statsv2/account/b3e5b1c0c1e0471e9a3c5d1c9c8f7a61")
+        Call<JsonObject> stats();
+    }
+
+}
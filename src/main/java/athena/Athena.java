@@ -6,6 +6,7 @@ import athena.account.resource.device.Device;
 import athena.account.service.AccountPublicService;
 import athena.authentication.service.AuthenticationService;
 import athena.authentication.session.Session;
+import athena.authentication.session.SessionStore;
 import athena.authentication.type.AuthClient;
 import athena.authentication.type.GrantType;
 import athena.channels.service.ChannelsPublicService;
@@ -28,11 +29,24 @@ import athena.presence.service.PresencePublicService;
 import athena.stats.StatisticsV2;
 import athena.stats.service.StatsproxyPublicService;
 import athena.types.Platform;
+import athena.util.json.DeserializationErrorHandler;
+import athena.util.request.cache.HttpCache;
+import athena.util.request.coalesce.CoalescingInterceptor;
+import athena.util.request.metrics.EndpointSnapshot;
+import athena.util.request.retry.RetryPolicy;
 import athena.xmpp.XMPPConnectionManager;
 import com.google.gson.Gson;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 /**
  * The default Athena implementation.
  */
@@ -198,6 +212,38 @@ public interface Athena {
      */
     OkHttpClient httpClient();
 
+    /**
+     * Take a snapshot of the request metrics for each endpoint.
+     * Endpoints are identified by their service and templated path, for example "AccountPublicService GET account/api/public/account/{accountId}"
+     *
+     * @return a list of {@link EndpointSnapshot}, empty if metrics are disabled.
+     */
+    List<EndpointSnapshot> metrics();
+
+    /**
+     * The interceptor that merges identical in-flight GET requests, see {@link Builder#coalesceRequests()}
+     * {@link CoalescingInterceptor#executed()} and {@link CoalescingInterceptor#coalesced()} give the dedup rate.
+     *
+     * @return the {@link CoalescingInterceptor} or {@code null} if requests are not coalesced.
+     */
+    CoalescingInterceptor coalescingInterceptor();
+
+    /**
+     * How long each startup phase took, in the order they started.
+     * Phases that ran concurrently with {@link Builder#parallelStartup()} overlap, "total" is the wall time.
+     *
+     * @return a map of phase to duration.
+     */
+    Map<String, Duration> startupTimings();
+
+    /**
+     * The executor HTTP calls are dispatched on.
+     * If virtual threads are enabled this executor can also be used for running blocking resource calls.
+     *
+     * @return the {@link ExecutorService}
+     */
+    ExecutorService executor();
+
     /**
      * @return the account ID of this athena instance.
      */
@@ -265,10 +311,69 @@ public interface Athena {
          */
         private boolean enableXmpp, loadRoster, reconnectOnError, debugXmpp;
 
+        /**
+         * Overridden base URLs by service type and the XMPP host and port.
+         */
+        private final Map<Class<?>, String> baseUrls = new HashMap<>();
+        private String xmppHost = XMPPConnectionManager.XMPP_HOST;
+        private int xmppPort = XMPPConnectionManager.XMPP_PORT;
+        private boolean xmppTls = true;
+
         /**
          * Configuration options to disable certain components
          */
-        private boolean disableChat, disableParties, disablePresences, disableFriends;
+        private boolean disableChat, disableParties, disablePresences, disableFriends, disableMetrics;
+
+        /**
+         * {@code virtualThreads} if true HTTP calls will be dispatched on virtual threads, if the runtime supports them.
+         * {@code executor} a custom executor for dispatching HTTP calls.
+         * {@code maxRequests} the maximum amount of concurrent HTTP calls.
+         * {@code maxRequestsPerHost} the maximum amount of concurrent HTTP calls per host.
+         */
+        private boolean virtualThreads;
+        private ExecutorService executor;
+        private int maxRequests = 64, maxRequestsPerHost = 5;
+        private boolean maxRequestsSet;
+
+        /**
+         * The executor party, friend and presence event listeners are called on, or {@code null} to call them on the XMPP thread.
+         */
+        private Executor eventExecutor;
+
+        /**
+         * The shared runtime to use, or {@code null} for a standalone instance.
+         */
+        private AthenaRuntime runtime;
+
+        /**
+         * The retry policy, or {@code null} if requests should not be retried.
+         */
+        private RetryPolicy retryPolicy;
+
+        /**
+         * {@code coalesceRequests} if true identical GET requests that are in flight together will share one network call.
+         */
+        private boolean coalesceRequests;
+
+        /**
+         * Receives errors from deserialization hooks, or {@code null} to log them.
+         */
+        private DeserializationErrorHandler deserializationErrorHandler;
+
+        /**
+         * {@code parallelStartup} if true independent startup steps (XMPP, EULA, account lookup) run concurrently.
+         */
+        private boolean parallelStartup;
+
+        /**
+         * The HTTP cache, or {@code null} if responses should not be cached.
+         */
+        private HttpCache cache;
+
+        /**
+         * The session store, or {@code null} if the session should not be kept between restarts.
+         */
+        private SessionStore sessionStore;
 
         /**
          * Platform and app types.
@@ -422,6 +527,137 @@ public interface Athena {
             return this;
         }
 
+        public Builder disableMetrics() {
+            disableMetrics = true;
+            return this;
+        }
+
+        public Builder virtualThreads() {
+            virtualThreads = true;
+            return this;
+        }
+
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Call party, friend and presence event listeners on {@code eventExecutor} instead of the XMPP thread.
+         * Each listener gets its own queue so a slow listener does not hold up XMPP processing or other listeners.
+         * The executor is not shut down when athena is closed.
+         *
+         * @param eventExecutor the executor, for example {@link athena.util.thread.ThreadExecutors#newVirtualThreadPerTaskExecutor()}
+         * @return this
+         */
+        public Builder eventExecutor(Executor eventExecutor) {
+            this.eventExecutor = eventExecutor;
+            return this;
+        }
+
+        /**
+         * Limit the amount of concurrent HTTP calls.
+         * This cannot be used with {@link #runtime(AthenaRuntime)}, the shared dispatcher is configured when creating the runtime.
+         *
+         * @param maxRequests        the maximum amount of concurrent HTTP calls.
+         * @param maxRequestsPerHost the maximum amount of concurrent HTTP calls per host.
+         * @return this
+         */
+        public Builder maxRequests(int maxRequests, int maxRequestsPerHost) {
+            this.maxRequests = maxRequests;
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            this.maxRequestsSet = true;
+            return this;
+        }
+
+        public Builder runtime(AthenaRuntime runtime) {
+            this.runtime = runtime;
+            return this;
+        }
+
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        public Builder coalesceRequests() {
+            coalesceRequests = true;
+            return this;
+        }
+
+        /**
+         * Override the base URL of a service, for example to use a local stand-in backend.
+         *
+         * @param service the service type, ex: {@link AccountPublicService}
+         * @param baseUrl the base URL, must end in "/"
+         * @return this
+         */
+        public Builder baseUrl(Class<?> service, String baseUrl) {
+            baseUrls.put(service, baseUrl);
+            return this;
+        }
+
+        /**
+         * Override the XMPP host and port.
+         *
+         * @param host the host
+         * @param port the port
+         * @return this
+         */
+        public Builder xmppHost(String host, int port) {
+            return xmppHost(host, port, true);
+        }
+
+        /**
+         * Override the XMPP host and port.
+         *
+         * @param host the host
+         * @param port the port
+         * @param tls  {@code false} to connect without TLS, only for local stand-in servers.
+         * @return this
+         */
+        public Builder xmppHost(String host, int port, boolean tls) {
+            this.xmppHost = host;
+            this.xmppPort = port;
+            this.xmppTls = tls;
+            return this;
+        }
+
+        /**
+         * Receive errors from deserialization hooks instead of logging them.
+         * The deserialized value is still returned.
+         *
+         * @param handler the handler
+         * @return this
+         */
+        public Builder deserializationErrorHandler(DeserializationErrorHandler handler) {
+            this.deserializationErrorHandler = handler;
+            return this;
+        }
+
+        public Builder parallelStartup() {
+            parallelStartup = true;
+            return this;
+        }
+
+        public Builder cache(HttpCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Keep the session in {@code sessionStore} so restarts can skip logging in.
+         * The stored session is verified or refreshed on start, if that fails a normal login is done.
+         * The session is no longer killed on close so it can be reused.
+         *
+         * @param sessionStore the store
+         * @return this
+         */
+        public Builder sessionStore(SessionStore sessionStore) {
+            this.sessionStore = sessionStore;
+            return this;
+        }
+
         public Builder platform(Platform platform) {
             this.platform = platform;
             return this;
@@ -521,6 +757,74 @@ public interface Athena {
             return disableFriends;
         }
 
+        boolean shouldDisableMetrics() {
+            return disableMetrics;
+        }
+
+        boolean useVirtualThreads() {
+            return virtualThreads;
+        }
+
+        ExecutorService executor() {
+            return executor;
+        }
+
+        Executor eventExecutor() {
+            return eventExecutor;
+        }
+
+        int maxRequests() {
+            return maxRequests;
+        }
+
+        int maxRequestsPerHost() {
+            return maxRequestsPerHost;
+        }
+
+        HttpCache cache() {
+            return cache;
+        }
+
+        SessionStore sessionStore() {
+            return sessionStore;
+        }
+
+        boolean shouldCoalesceRequests() {
+            return coalesceRequests;
+        }
+
+        String baseUrlOf(Class<?> service, String defaultUrl) {
+            return baseUrls.getOrDefault(service, defaultUrl);
+        }
+
+        String xmppHost() {
+            return xmppHost;
+        }
+
+        int xmppPort() {
+            return xmppPort;
+        }
+
+        boolean xmppTls() {
+            return xmppTls;
+        }
+
+        DeserializationErrorHandler deserializationErrorHandler() {
+            return deserializationErrorHandler;
+        }
+
+        boolean shouldStartInParallel() {
+            return parallelStartup;
+        }
+
+        RetryPolicy retryPolicy() {
+            return retryPolicy;
+        }
+
+        AthenaRuntime runtime() {
+            return runtime;
+        }
+
         Platform platform() {
             return platform;
         }
@@ -550,6 +854,12 @@ public interface Athena {
                 if (password == null || password.isEmpty()) throw new UnsupportedBuildException("Athena needs a password to login.");
             }
             if (enableXmpp && (platform == null || appType == null)) throw new UnsupportedBuildException("Platform and app must be set for XMPP.");
+            if (virtualThreads && executor != null) throw new UnsupportedBuildException("Virtual threads and a custom executor cannot both be used.");
+            if (runtime != null && (virtualThreads || executor != null)) throw new UnsupportedBuildException("The executor is provided by the runtime when using a shared runtime.");
+            if (runtime != null && maxRequestsSet) throw new UnsupportedBuildException("Max requests are set on the runtime when using a shared runtime.");
+            if (maxRequests < 1 || maxRequestsPerHost < 1) throw new UnsupportedBuildException("Max requests must be at least 1.");
+            for (var url : baseUrls.values()) if (HttpUrl.parse(url) == null || !url.endsWith("/")) throw new UnsupportedBuildException("Invalid base URL: " + url);
+            if (xmppHost == null || xmppPort < 1) throw new UnsupportedBuildException("Invalid XMPP host.");
             if (kairos && authorizationToken.equals(EPIC_GAMES_LAUNCHER_TOKEN)) authorizationToken = KAIROS_TOKEN;
             return new AthenaImpl(this);
         }
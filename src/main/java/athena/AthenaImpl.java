@@ -6,6 +6,7 @@ import athena.account.service.AccountPublicService;
 import athena.authentication.FortniteAuthenticationManager;
 import athena.authentication.service.AuthenticationService;
 import athena.authentication.session.Session;
+import athena.authentication.type.GrantType;
 import athena.channels.service.ChannelsPublicService;
 import athena.chat.FriendChat;
 import athena.eula.service.EulatrackingPublicService;
@@ -43,22 +44,35 @@ import athena.stats.service.StatsproxyPublicService;
 import athena.types.Input;
 import athena.types.Platform;
 import athena.types.Region;
+import athena.util.json.DeserializationErrorHandler;
+import athena.util.json.adapter.StreamingAdapter;
+import athena.util.json.adapter.StreamingTypeAdapterFactory;
 import athena.util.json.converters.*;
 import athena.util.json.fortnite.FortniteTypeAdapterFactory;
 import athena.util.json.hooks.Hooks;
 import athena.util.json.request.Request;
 import athena.util.json.request.Requestable;
 import athena.util.request.Requests;
+import athena.util.request.coalesce.CoalescingInterceptor;
+import athena.util.request.metrics.EndpointSnapshot;
+import athena.util.request.metrics.RequestMetrics;
+import athena.util.request.retry.RetryInterceptor;
+import athena.util.thread.ThreadExecutors;
 import athena.xmpp.XMPPConnectionManager;
 import com.google.common.flogger.FluentLogger;
 import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import okhttp3.Authenticator;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.JavaNetCookieJar;
 import okhttp3.OkHttpClient;
 import okhttp3.Response;
+import okhttp3.Route;
 import org.jetbrains.annotations.NotNull;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 import org.jxmpp.jid.Jid;
@@ -69,17 +83,27 @@ import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.net.CookieManager;
 import java.net.CookiePolicy;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
-final class AthenaImpl implements Athena, Interceptor {
+final class AthenaImpl implements Athena, Interceptor, Authenticator {
 
     /**
      * The LOGGER.
@@ -89,6 +113,14 @@ final class AthenaImpl implements Athena, Interceptor {
      * The HTTP client.
      */
     private final OkHttpClient client;
+    /**
+     * Per-endpoint request metrics, or {@code null} if disabled.
+     */
+    private final RequestMetrics metrics;
+    /**
+     * Merges identical in-flight GET requests, or {@code null} if disabled.
+     */
+    private final CoalescingInterceptor coalescingInterceptor;
     /**
      * The authentication manager.
      */
@@ -100,9 +132,22 @@ final class AthenaImpl implements Athena, Interceptor {
     private final Builder builder;
 
     /**
-     * Scheduled executor service for refreshes.
+     * Scheduled executor service for refreshes, this only keeps time.
+     * The refresh itself blocks on HTTP and XMPP so it is run on the dispatcher executor, see {@link #runAsync(Runnable)}
+     */
+    private final ScheduledExecutorService scheduledExecutorService;
+    /**
+     * The current scheduled refresh.
+     */
+    private ScheduledFuture<?> refreshTask;
+    /**
+     * How long each startup phase took.
+     */
+    private final Map<String, Duration> startupTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+    /**
+     * Lock so only one session refresh happens at a time.
      */
-    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    private final Object refreshLock = new Object();
     /**
      * The reference for the session.
      */
@@ -111,6 +156,10 @@ final class AthenaImpl implements Athena, Interceptor {
      * A list of interceptor hooks.
      */
     private final CopyOnWriteArrayList<InterceptorAction> interceptorActions = new CopyOnWriteArrayList<>();
+    /**
+     * Adds the authorization headers, after the interceptor actions.
+     */
+    private final RequestHeaders requestHeaders = new RequestHeaders(interceptorActions, session::get);
 
     /**
      * Manages account hooks like: Finding them by ID and display name.
@@ -127,11 +176,11 @@ final class AthenaImpl implements Athena, Interceptor {
     /**
      * Manages events/tournaments.
      */
-    private final Events events;
+    private final Lazy<Events> events;
     /**
      * Manages fortnite services
      */
-    private final Fortnite fortnite;
+    private final Lazy<Fortnite> fortnite;
     /**
      * Manages presence.
      */
@@ -155,8 +204,8 @@ final class AthenaImpl implements Athena, Interceptor {
     private final EventsPublicService eventsPublicService;
     private final FortnitePublicService fortnitePublicService;
     private final PresencePublicService presencePublicService;
-    private final ChannelsPublicService channelsPublicService;
-    private final GroupsService groupsService;
+    private final Lazy<ChannelsPublicService> channelsPublicService;
+    private final Lazy<GroupsService> groupsService;
     private final PartyService partyService;
     private final AuthenticationService authenticationService;
 
@@ -184,17 +233,47 @@ final class AthenaImpl implements Athena, Interceptor {
     private XMPPConnectionManager connectionManager;
 
     AthenaImpl(Builder builder) throws EpicGamesErrorException {
+        final var start = System.nanoTime();
         this.builder = builder;
         this.platform = builder.platform();
 
         // Create a new cookie manager for the cookie jar.
         final var manager = new CookieManager();
         manager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
+
+        final OkHttpClient.Builder clientBuilder;
+        if (builder.runtime() != null) {
+            // derive from the shared client, this shares the connection pool and dispatcher.
+            clientBuilder = builder.runtime().client().newBuilder();
+            scheduledExecutorService = builder.runtime().scheduler();
+        } else {
+            // create our dispatcher, using virtual threads or a custom executor if requested.
+            final var executor = builder.executor() != null ? builder.executor()
+                    : builder.useVirtualThreads() ? ThreadExecutors.newVirtualThreadPerTaskExecutor()
+                    : null;
+            final var dispatcher = executor == null ? new Dispatcher() : new Dispatcher(executor);
+            dispatcher.setMaxRequests(builder.maxRequests());
+            dispatcher.setMaxRequestsPerHost(builder.maxRequestsPerHost());
+
+            clientBuilder = new OkHttpClient.Builder().dispatcher(dispatcher);
+            scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        }
+
         // build the client.
-        client = new OkHttpClient.Builder()
+        clientBuilder
                 .followRedirects(false)
                 .cookieJar(new JavaNetCookieJar(manager))
-                .addInterceptor(this).build();
+                .authenticator(this)
+                .addInterceptor(this);
+        // metrics go first so latency includes coalescing and retries.
+        metrics = builder.shouldDisableMetrics() ? null : new RequestMetrics();
+        if (metrics != null) clientBuilder.addInterceptor(metrics);
+        if (builder.cache() != null) clientBuilder.cache(builder.cache().cache()).addNetworkInterceptor(builder.cache().networkInterceptor());
+        // coalescing and retries go after our interceptor so each request is authorized.
+        coalescingInterceptor = builder.shouldCoalesceRequests() ? new CoalescingInterceptor() : null;
+        if (coalescingInterceptor != null) clientBuilder.addInterceptor(coalescingInterceptor);
+        if (builder.retryPolicy() != null) clientBuilder.addInterceptor(new RetryInterceptor(builder.retryPolicy()));
+        client = clientBuilder.build();
 
         gson = initializeGson();
         final var factory = GsonConverterFactory.create(gson);
@@ -205,8 +284,8 @@ final class AthenaImpl implements Athena, Interceptor {
         eventsPublicService = initializeRetrofitService(EventsPublicService.BASE_URL, factory, EventsPublicService.class);
         fortnitePublicService = initializeRetrofitService(FortnitePublicService.BASE_URL, factory, FortnitePublicService.class);
         presencePublicService = initializeRetrofitService(PresencePublicService.BASE_URL, factory, PresencePublicService.class);
-        channelsPublicService = initializeRetrofitService(ChannelsPublicService.BASE_URL, factory, ChannelsPublicService.class);
-        groupsService = initializeRetrofitService(GroupsService.BASE_URL, factory, GroupsService.class);
+        channelsPublicService = new Lazy<>(() -> initializeRetrofitService(ChannelsPublicService.BASE_URL, factory, ChannelsPublicService.class));
+        groupsService = new Lazy<>(() -> initializeRetrofitService(GroupsService.BASE_URL, factory, GroupsService.class));
         partyService = initializeRetrofitService(PartyService.BASE_URL, factory, PartyService.class);
         authenticationService = initializeRetrofitService(AuthenticationService.BASE_URL, factory, AuthenticationService.class);
 
@@ -230,76 +309,188 @@ final class AthenaImpl implements Athena, Interceptor {
                 client,
                 gson);
 
-        // authenticate
-        final var session = fortniteAuthenticationManager.authenticate();
+        startupTimings.put("client", Duration.ofNanos(System.nanoTime() - start));
+
+        // authenticate, reuse the stored session if we have one.
+        final var restored = builder.sessionStore() == null ? null : timed("restoreSession", this::restoreSession);
+        final var session = restored == null ? timed("authenticate", fortniteAuthenticationManager::authenticate) : restored;
         this.session.set(session); // set the session
         // schedule the refresh and handle the shutdown hook.
         if (builder.shouldHandleShutdown()) Runtime.getRuntime().addShutdownHook(new Thread(this::close));
         if (builder.shouldRefreshAutomatically()) scheduleRefresh();
-        // kill other sessions and accept the EULA.
-        if (builder.shouldKillOtherSessions()) fortniteAuthenticationManager.killOtherSessions();
-        if (builder.shouldAcceptEula()) fortniteAuthenticationManager.acceptEulaIfNeeded(session.accountId());
 
-        // handle connecting the XMPP service.
+        // these steps only need the session and can run concurrently.
+        accounts = new Accounts(accountPublicService, session.accountId());
         if (builder.shouldEnableXmpp()) {
-            connectionManager = new XMPPConnectionManager(builder.shouldLoadRoster(), builder.shouldReconnectOnError(), builder.debugXmpp(), builder.platform(), builder.appType());
-            connectionManager.connect(session.accountId(), session.accessToken());
+            connectionManager = new XMPPConnectionManager(builder.shouldLoadRoster(), builder.shouldReconnectOnError(), builder.debugXmpp(), builder.platform(), builder.appType(), builder.xmppHost(), builder.xmppPort(), builder.xmppTls());
         }
 
-        // initialize our resources.
-        accounts = new Accounts(accountPublicService, session.accountId());
-        account = accounts.findByAccountId(session.accountId());
-
+        final var steps = new LinkedHashMap<String, Runnable>();
+        // kill other sessions and accept the EULA, this was already done when the stored session was created.
+        if (restored == null && builder.shouldKillOtherSessions()) steps.put("killOtherSessions", fortniteAuthenticationManager::killOtherSessions);
+        if (restored == null && builder.shouldAcceptEula()) steps.put("eula", () -> fortniteAuthenticationManager.acceptEulaIfNeeded(session.accountId()));
+        if (builder.shouldEnableXmpp()) steps.put("xmpp", () -> connectionManager.connect(session.accountId(), session.accessToken()));
+        if (restored == null) steps.put("account", () -> account = accounts.findByAccountId(session.accountId()));
+        runStartupSteps(steps);
+        storeSession();
+
+        // initialize our resources, rarely used ones are created on first access.
+        final var resourcesStart = System.nanoTime();
         statisticsV2 = new StatisticsV2(statsproxyPublicService, accountPublicService);
-        events = new Events(session.accountId(), eventsPublicService);
-        fortnite = new Fortnite(fortnitePublicService);
-        presences = builder.shouldDisablePresences() ? null : new Presences(presencePublicService, connectionManager.connection(), session.accountId(), gson);
-        friends = builder.shouldDisableFriends() ? null : new Friends(friendsPublicService, connectionManager.connection(), session.accountId(), gson);
-        chat = builder.shouldEnableXmpp() && !builder.shouldDisableChat() ? new FriendChat(connectionManager.connection(), session.accountId(), accounts, friendsPublicService) : null;
-        parties = builder.shouldEnableXmpp() && !builder.shouldDisableParties() ? new Parties(partyService, gson, connectionManager.connection(), session.accountId(), displayName(), platform) : null;
+        events = new Lazy<>(() -> new Events(session.accountId(), eventsPublicService));
+        fortnite = new Lazy<>(() -> new Fortnite(fortnitePublicService));
+        final var connection = connectionManager == null ? null : connectionManager.connection();
+        presences = builder.shouldDisablePresences() ? null : new Presences(presencePublicService, connection, session.accountId(), gson, builder.eventExecutor());
+        friends = builder.shouldDisableFriends() ? null : new Friends(friendsPublicService, connection, session.accountId(), gson, builder.eventExecutor());
+        chat = builder.shouldEnableXmpp() && !builder.shouldDisableChat() ? new FriendChat(connection, session.accountId(), accounts, friendsPublicService) : null;
+        parties = builder.shouldEnableXmpp() && !builder.shouldDisableParties() ? new Parties(partyService, gson, connection, session.accountId(), displayName(), platform, builder.eventExecutor()) : null;
         // register requestable items
         requestable.registerRequestables();
+        if (builder.runtime() != null) builder.runtime().register(this);
+        startupTimings.put("resources", Duration.ofNanos(System.nanoTime() - resourcesStart));
+        startupTimings.put("total", Duration.ofNanos(System.nanoTime() - start));
         LOGGER.atInfo().log("Account " + account.accountId() + " successfully authenticated.");
+        LOGGER.atFine().log("Startup timings: " + startupTimings);
+    }
+
+    /**
+     * Run the startup steps, concurrently if {@link Builder#parallelStartup()} was used.
+     *
+     * @param steps the steps by phase name.
+     * @throws EpicGamesErrorException if a step failed.
+     */
+    private void runStartupSteps(Map<String, Runnable> steps) {
+        if (!builder.shouldStartInParallel() || steps.size() < 2) {
+            steps.forEach((phase, step) -> timed(phase, step));
+            return;
+        }
+
+        // use the dispatcher executor, these steps are HTTP/XMPP bound just like calls.
+        final var executor = client.dispatcher().executorService();
+        final var futures = steps.entrySet()
+                .stream()
+                .map(step -> CompletableFuture.runAsync(() -> timed(step.getKey(), step.getValue()), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) throw (RuntimeException) exception.getCause();
+            throw exception;
+        }
+    }
+
+    /**
+     * Run a startup phase and record how long it took.
+     *
+     * @param phase  the phase name
+     * @param action the action
+     * @param <T>    the result type
+     * @return the result of {@code action}
+     */
+    private <T> T timed(String phase, Supplier<T> action) {
+        final var start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            startupTimings.put(phase, Duration.ofNanos(System.nanoTime() - start));
+        }
     }
 
+    /**
+     * Run a startup phase and record how long it took.
+     *
+     * @param phase  the phase name
+     * @param action the action
+     */
+    private void timed(String phase, Runnable action) {
+        timed(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Types that can request resources through {@link Request}
+     */
+    static final Class<?>[] REQUESTABLE_TYPES = {
+            FortnitePresence.class,
+            LastOnlineResponse.class,
+            PartyInvitation.class,
+            PartyPing.class,
+            PartyPingEvent.class,
+            PartyInviteEvent.class,
+            PartyMemberJoinedEvent.class,
+            PartyMemberKickedEvent.class,
+            PartyMemberLeftEvent.class,
+            PartyMemberNewCaptainEvent.class,
+            PartyMemberUpdatedEvent.class,
+            PartyMember.class,
+            PartyMemberDisconnectedEvent.class,
+            PartyUpdatedEvent.class,
+            PartyMemberRequireConfirmationEvent.class,
+            PartyMemberExpiredEvent.class,
+            Account.class,
+            Profile.class,
+            Friend.class,
+            Party.class
+    };
+
     /**
      * Initialize our GSON instance.
      *
      * @return the GSON instance.
      */
     private Gson initializeGson() {
+        requestable = Requestable.allOf(this, REQUESTABLE_TYPES);
+        return createGson(requestable, builder.deserializationErrorHandler());
+    }
+
+    /**
+     * Create a GSON instance with every hook, requestable and converter registered.
+     * The {@link StreamingAdapter} types are read and written by their generated adapters, registered last so GSON asks them first.
+     * This is also used by the benchmarks so they measure the same adapter stack.
+     *
+     * @param requestable  the requestable factory
+     * @param errorHandler receives hook failures, {@code null} to log them.
+     * @return the GSON instance.
+     */
+    static Gson createGson(Requestable requestable, DeserializationErrorHandler errorHandler) {
+        final var gsonBuilder = createGsonBuilder(requestable, errorHandler);
+        gsonBuilder.registerTypeAdapterFactory(new StreamingTypeAdapterFactory(requestable, errorHandler));
+        return gsonBuilder.create();
+    }
+
+    /**
+     * Create a GSON instance like {@link #createGson(Requestable, DeserializationErrorHandler)} that reads every type reflectively.
+     * Used by the benchmarks and tests to compare against the generated adapters.
+     *
+     * @param requestable  the requestable factory
+     * @param errorHandler receives hook failures, {@code null} to log them.
+     * @return the GSON instance.
+     */
+    static Gson createReflectiveGson(Requestable requestable, DeserializationErrorHandler errorHandler) {
+        final var gsonBuilder = createGsonBuilder(requestable, errorHandler);
+        // the generated adapters read these wrapped values themselves.
+        gsonBuilder.registerTypeAdapterFactory(FortniteTypeAdapterFactory.of(PartyMeta.class));
+        gsonBuilder.registerTypeAdapterFactory(FortniteTypeAdapterFactory.of(PartyMemberMeta.class));
+        return gsonBuilder.create();
+    }
+
+    /**
+     * Create a GSON builder with every hook, requestable and converter registered.
+     *
+     * @param requestable  the requestable factory
+     * @param errorHandler receives hook failures, {@code null} to log them.
+     * @return the builder
+     */
+    private static GsonBuilder createGsonBuilder(Requestable requestable, DeserializationErrorHandler errorHandler) {
         final var gsonBuilder = new GsonBuilder();
-        requestable = Requestable.allOf(
-                this,
-                FortnitePresence.class,
-                LastOnlineResponse.class,
-                PartyInvitation.class,
-                PartyPing.class,
-                PartyPingEvent.class,
-                PartyInviteEvent.class,
-                PartyMemberJoinedEvent.class,
-                PartyMemberKickedEvent.class,
-                PartyMemberLeftEvent.class,
-                PartyMemberNewCaptainEvent.class,
-                PartyMemberUpdatedEvent.class,
-                PartyMember.class,
-                PartyMemberDisconnectedEvent.class,
-                PartyUpdatedEvent.class,
-                PartyMemberRequireConfirmationEvent.class,
-                PartyMemberExpiredEvent.class,
-                Account.class,
-                Profile.class,
-                Friend.class,
-                Party.class
-        );
-
-        final var hooks = Hooks.allOf(UnfilteredStatistic.class, Account.class, Profile.class, Friend.class, Party.class);
+
+        final var hooks = Hooks.allOf(errorHandler, UnfilteredStatistic.class, Account.class, Profile.class, Friend.class, Party.class);
         gsonBuilder.registerTypeAdapterFactory(hooks);
         gsonBuilder.registerTypeAdapterFactory(requestable);
 
         gsonBuilder.registerTypeAdapterFactory(FortniteTypeAdapterFactory.of(JoinRequestUsers.class));
-        gsonBuilder.registerTypeAdapterFactory(FortniteTypeAdapterFactory.of(PartyMeta.class));
-        gsonBuilder.registerTypeAdapterFactory(FortniteTypeAdapterFactory.of(PartyMemberMeta.class));
 
         // converters.
         gsonBuilder.registerTypeAdapter(Input.class, new InputConverter());
@@ -324,7 +515,7 @@ final class AthenaImpl implements Athena, Interceptor {
                 return false;
             }
         });
-        return gsonBuilder.create();
+        return gsonBuilder;
     }
 
     /**
@@ -337,7 +528,10 @@ final class AthenaImpl implements Athena, Interceptor {
      * @return the new service
      */
     private <T> T initializeRetrofitService(String baseUrl, GsonConverterFactory factory, Class<T> type) {
-        return new Retrofit.Builder().baseUrl(baseUrl).addConverterFactory(factory).client(client).build().create(type);
+        final var retrofit = new Retrofit.Builder().baseUrl(builder.baseUrlOf(type, baseUrl)).client(client);
+        // the cache converter must come before GSON.
+        if (builder.cache() != null) retrofit.addConverterFactory(builder.cache().converterFactory());
+        return retrofit.addConverterFactory(factory).build().create(type);
     }
 
     /**
@@ -345,7 +539,20 @@ final class AthenaImpl implements Athena, Interceptor {
      */
     private void scheduleRefresh() {
         final var refreshWhen = Instant.now().plusSeconds(200).until(session.get().accessTokenExpiresAt(), ChronoUnit.SECONDS);
-        scheduledExecutorService.schedule(this::refresh, refreshWhen, TimeUnit.SECONDS);
+        refreshTask = scheduledExecutorService.schedule(() -> runAsync(this::refresh), refreshWhen, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Run blocking work on the dispatcher executor so the (possibly shared) scheduler thread is never held up.
+     *
+     * @param task the task
+     */
+    private void runAsync(Runnable task) {
+        try {
+            executor().execute(task);
+        } catch (RejectedExecutionException exception) {
+            LOGGER.atWarning().log("Executor is shut down, skipping task.");
+        }
     }
 
     /**
@@ -354,29 +561,167 @@ final class AthenaImpl implements Athena, Interceptor {
     private void refresh() {
         try {
             final var old = session();
+            final var newSession = refreshSession(old);
+
+            // refresh our XMPP connection and resources
+            if (newSession != old) reconnectXmpp();
+            LOGGER.atInfo().log("Successfully re-authenticated.");
+        } catch (EpicGamesErrorException exception) {
+            LOGGER.atSevere().withCause(exception).log("Failed to refresh session.");
+            close();
+        }
+    }
+
+    /**
+     * Refresh the session, only one refresh will happen at a time.
+     * If the session was already refreshed by another thread the current session is returned.
+     *
+     * @param expired the session that needs refreshing
+     * @return the new session
+     * @throws EpicGamesErrorException if the session could not be refreshed.
+     */
+    private Session refreshSession(Session expired) throws EpicGamesErrorException {
+        synchronized (refreshLock) {
+            final var current = session();
+            if (current != expired) return current;
 
             // retrieve the refresh session.
             final var newSession = Requests.executeCall(accountPublicService.grantSession(
                     "basic " + builder.authorizationToken(),
                     "refresh_token",
-                    Map.of("refresh_token", old.refreshToken())));
+                    Map.of("refresh_token", current.refreshToken())));
             session.set(newSession);
+            storeSession();
 
             // schedule our next refresh
-            scheduleRefresh();
+            if (builder.shouldRefreshAutomatically()) {
+                if (refreshTask != null) refreshTask.cancel(false);
+                scheduleRefresh();
+            }
+            return newSession;
+        }
+    }
 
-            // refresh our XMPP connection and resources
-            if (xmppEnabled()) {
-                connectionManager.reconnect(session().accountId(), session().accessToken());
+    /**
+     * Restore the session and account from the session store.
+     * The stored session is verified if the access token is still valid, otherwise it is refreshed.
+     *
+     * @return the restored session or {@code null} if we need to login.
+     */
+    private Session restoreSession() {
+        final var store = builder.sessionStore();
+        if (store == null) return null;
+        try {
+            final var contents = store.read();
+            if (contents == null) return null;
+            final var stored = gson.fromJson(contents, JsonObject.class);
+            final var storedSession = gson.fromJson(stored.get("session"), Session.class);
+            // make sure this is the account we want and the refresh token is still valid.
+            final var identity = stored.get("identity");
+            if (identity == null || !identity.isJsonPrimitive() || !identity.getAsString().equals(loginIdentity())) {
+                LOGGER.atInfo().log("Stored session belongs to a different login, logging in.");
+                return null;
             }
+            if (builder.accountId() != null && !builder.accountId().equals(storedSession.accountId())) return null;
+            if (storedSession.refreshTokenExpiresAt() == null || storedSession.refreshTokenExpiresAt().isBefore(Instant.now())) return null;
 
-            LOGGER.atInfo().log("Successfully re-authenticated.");
+            final var restored = verifySession(storedSession) ? storedSession : Requests.executeCall(accountPublicService.grantSession(
+                    "basic " + builder.authorizationToken(),
+                    "refresh_token",
+                    Map.of("refresh_token", storedSession.refreshToken())));
+
+            account = gson.fromJson(stored.get("account"), Account.class);
+            LOGGER.atInfo().log("Restored stored session for account " + restored.accountId());
+            return restored;
+        } catch (IOException | JsonParseException | EpicGamesErrorException exception) {
+            LOGGER.atWarning().withCause(exception).log("Failed to restore stored session, logging in.");
+            return null;
+        }
+    }
+
+    /**
+     * The login this instance was built with, a stored session is only restored for the same login.
+     *
+     * @return the account ID for device auth, otherwise the email address.
+     */
+    private String loginIdentity() {
+        return builder.grantType() == GrantType.DEVICE_AUTH
+                ? "account:" + builder.accountId()
+                : "email:" + builder.email().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Check if the access token of {@code session} can still be used.
+     *
+     * @param session the session
+     * @return {@code true} if so.
+     */
+    private boolean verifySession(Session session) {
+        if (session.accessTokenExpiresAt().isBefore(Instant.now().plusSeconds(200))) return false;
+        try {
+            Requests.executeVoidCall(accountPublicService.verify("bearer " + session.accessToken()));
+            return true;
         } catch (EpicGamesErrorException exception) {
-            LOGGER.atSevere().withCause(exception).log("Failed to refresh session.");
-            close();
+            return false;
+        }
+    }
+
+    /**
+     * Write the current session and account to the session store.
+     */
+    private void storeSession() {
+        final var store = builder.sessionStore();
+        if (store == null || account == null) return;
+
+        // the JID is created again after deserializing.
+        final var storedAccount = new JsonObject();
+        storedAccount.addProperty("id", account.accountId());
+        storedAccount.addProperty("displayName", account.displayName());
+        storedAccount.add("externalAuths", gson.toJsonTree(account.externalAuths()));
+
+        final var stored = new JsonObject();
+        stored.addProperty("identity", loginIdentity());
+        stored.add("session", gson.toJsonTree(session()));
+        stored.add("account", storedAccount);
+        try {
+            store.write(gson.toJson(stored));
+        } catch (IOException exception) {
+            LOGGER.atWarning().withCause(exception).log("Failed to write session store.");
         }
     }
 
+    /**
+     * Reconnect XMPP with the current session.
+     */
+    private void reconnectXmpp() {
+        if (xmppEnabled() && connectionManager != null) {
+            connectionManager.reconnect(session().accountId(), session().accessToken());
+        }
+    }
+
+    @Override
+    public okhttp3.Request authenticate(Route route, @NotNull Response response) {
+        final var request = response.request();
+        final var authorization = request.header("Authorization");
+        // only handle our own bearer tokens and only retry once.
+        if (authorization == null || !authorization.startsWith("bearer ") || response.priorResponse() != null) return null;
+
+        final var current = session();
+        if (current == null) return null;
+        final Session refreshed;
+        try {
+            // if the token changed while this request was in flight just replay it.
+            refreshed = authorization.equals("bearer " + current.accessToken()) ? refreshSession(current) : current;
+        } catch (EpicGamesErrorException exception) {
+            LOGGER.atSevere().withCause(exception).log("Failed to refresh session after a 401.");
+            return null;
+        }
+
+        // reconnect XMPP off of the HTTP thread.
+        if (refreshed != current && xmppEnabled()) runAsync(this::reconnectXmpp);
+        return request.newBuilder().header("Authorization", "bearer " + refreshed.accessToken()).build();
+    }
+
     @Override
     public void addInterceptorAction(InterceptorAction action) {
         interceptorActions.add(action);
@@ -424,7 +769,7 @@ final class AthenaImpl implements Athena, Interceptor {
 
     @Override
     public Events events() {
-        return events;
+        return events.get();
     }
 
     @Override
@@ -444,7 +789,7 @@ final class AthenaImpl implements Athena, Interceptor {
 
     @Override
     public Fortnite fortnite() {
-        return fortnite;
+        return fortnite.get();
     }
 
     @Override
@@ -464,12 +809,12 @@ final class AthenaImpl implements Athena, Interceptor {
 
     @Override
     public ChannelsPublicService channelsPublicService() {
-        return channelsPublicService;
+        return channelsPublicService.get();
     }
 
     @Override
     public GroupsService groupsService() {
-        return groupsService;
+        return groupsService.get();
     }
 
     @Override
@@ -502,6 +847,28 @@ final class AthenaImpl implements Athena, Interceptor {
         return client;
     }
 
+    @Override
+    public List<EndpointSnapshot> metrics() {
+        return metrics == null ? List.of() : metrics.snapshot();
+    }
+
+    @Override
+    public CoalescingInterceptor coalescingInterceptor() {
+        return coalescingInterceptor;
+    }
+
+    @Override
+    public Map<String, Duration> startupTimings() {
+        synchronized (startupTimings) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(startupTimings));
+        }
+    }
+
+    @Override
+    public ExecutorService executor() {
+        return client.dispatcher().executorService();
+    }
+
     @Override
     public String accountId() {
         return session().accountId();
@@ -534,6 +901,7 @@ final class AthenaImpl implements Athena, Interceptor {
 
     @Override
     public void close() {
+        if (refreshTask != null) refreshTask.cancel(false);
         if (chat != null) chat.close();
         if (parties != null) parties.close();
         if (friends != null) friends.close();
@@ -541,38 +909,53 @@ final class AthenaImpl implements Athena, Interceptor {
 
         // close the XMPP connection
         if (connectionManager != null) connectionManager.close();
-        // kill our token
-        fortniteAuthenticationManager.killToken(session().accessToken());
-        // shutdown OkHttp
-        client.dispatcher().executorService().shutdownNow();
+        // kill our token, unless it is stored for the next start.
+        if (builder.sessionStore() == null) fortniteAuthenticationManager.killToken(session().accessToken());
+        // the shared transport is closed by the runtime.
+        if (builder.runtime() != null) {
+            builder.runtime().unregister(this);
+            return;
+        }
+
+        scheduledExecutorService.shutdownNow();
+        // shutdown OkHttp, leave custom executors to the user.
+        if (builder.executor() == null) client.dispatcher().executorService().shutdownNow();
         client.connectionPool().evictAll();
     }
 
     @NotNull
     @Override
     public Response intercept(@NotNull Chain chain) throws IOException {
-        final var request = chain.request();
-
-        // Go through all interceptor chains.
-        // Each action will take the request from the last action.
-        var nextRequestChain = request;
-        for (InterceptorAction action : interceptorActions) nextRequestChain = action.run(nextRequestChain);
-
-        // we lost the original request!
-        if (nextRequestChain == null) nextRequestChain = request;
-        // we already have an authorization header or we don't have a session yet, continue.
-        if (nextRequestChain.headers().names().contains("Authorization") || session.get() == null)
-            return chain.proceed(request);
-
-        // add in the authorization header for the final request.
-        // Credits: armisto for user-agent, X-Epic-Correlation-ID info
-        // TODO: diff random uuid gen for fn requests
-        final var finalRequest = nextRequestChain.newBuilder()
-                .addHeader("Authorization", "bearer " + session.get().accessToken())
-                .addHeader("User-Agent", "Fortnite/++Fortnite+Release-12.61-CL-13498980 IOS/13.4.1")
-                .addHeader("X-Epic-Correlation-ID", UUID.randomUUID().toString())
-                .build();
-        return chain.proceed(finalRequest);
+        return chain.proceed(requestHeaders.apply(chain.request()));
+    }
+
+    /**
+     * A value that is created on first access.
+     *
+     * @param <T> the type
+     */
+    private static final class Lazy<T> {
+
+        private final Supplier<T> supplier;
+        private volatile T value;
+
+        private Lazy(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * @return the value, created if needed.
+         */
+        private T get() {
+            var value = this.value;
+            if (value == null) {
+                synchronized (this) {
+                    value = this.value;
+                    if (value == null) this.value = value = supplier.get();
+                }
+            }
+            return value;
+        }
     }
 
 }
@@ -0,0 +1,128 @@
+package athena;
+
+import athena.util.thread.ThreadExecutors;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Shared transport for running many {@link Athena} instances within one JVM.
+ * Every instance built with {@link Athena.Builder#runtime(AthenaRuntime)} shares the connection pool, dispatcher and refresh scheduler.
+ * Authentication stays per-account, each instance derives its own client with its own interceptor and cookies.
+ */
+public final class AthenaRuntime implements Closeable {
+
+    /**
+     * The base HTTP client, holds the shared connection pool and dispatcher.
+     */
+    private final OkHttpClient client;
+
+    /**
+     * Scheduled executor service for refreshes.
+     */
+    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * All instances using this runtime.
+     */
+    private final CopyOnWriteArrayList<Athena> instances = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new runtime with the default dispatcher.
+     *
+     * @return a new {@link AthenaRuntime}
+     */
+    public static AthenaRuntime create() {
+        return new AthenaRuntime(new OkHttpClient());
+    }
+
+    /**
+     * Creates a new runtime where HTTP calls are dispatched on virtual threads, if the runtime supports them.
+     *
+     * @param maxRequests        the maximum amount of concurrent HTTP calls.
+     * @param maxRequestsPerHost the maximum amount of concurrent HTTP calls per host.
+     * @return a new {@link AthenaRuntime}
+     */
+    public static AthenaRuntime withVirtualThreads(int maxRequests, int maxRequestsPerHost) {
+        final var dispatcher = new Dispatcher(ThreadExecutors.newVirtualThreadPerTaskExecutor());
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return new AthenaRuntime(new OkHttpClient.Builder().dispatcher(dispatcher).build());
+    }
+
+    /**
+     * Creates a new runtime from an existing client.
+     * The connection pool and dispatcher of {@code client} will be shared.
+     *
+     * @param client the client
+     * @return a new {@link AthenaRuntime}
+     */
+    public static AthenaRuntime of(OkHttpClient client) {
+        if (client == null) throw new NullPointerException("client is null.");
+        return new AthenaRuntime(client);
+    }
+
+    private AthenaRuntime(OkHttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @return the base HTTP client, derive from this using {@link OkHttpClient#newBuilder()}
+     */
+    public OkHttpClient client() {
+        return client;
+    }
+
+    /**
+     * The scheduler is single threaded and only used for timing, work scheduled on it should be handed off to another executor.
+     *
+     * @return the shared refresh scheduler.
+     */
+    public ScheduledExecutorService scheduler() {
+        return scheduledExecutorService;
+    }
+
+    /**
+     * @return an unmodifiable list of all instances using this runtime.
+     */
+    public List<Athena> instances() {
+        return List.copyOf(instances);
+    }
+
+    /**
+     * Register an instance.
+     *
+     * @param athena the instance
+     */
+    void register(Athena athena) {
+        instances.add(athena);
+    }
+
+    /**
+     * Unregister an instance.
+     *
+     * @param athena the instance
+     */
+    void unregister(Athena athena) {
+        instances.remove(athena);
+    }
+
+    /**
+     * Close every instance and then shutdown the shared transport.
+     */
+    @Override
+    public void close() {
+        instances.forEach(Athena::close);
+        instances.clear();
+
+        scheduledExecutorService.shutdownNow();
+        client.dispatcher().executorService().shutdownNow();
+        client.connectionPool().evictAll();
+    }
+
+}
@@ -0,0 +1,61 @@
+package athena;
+
+import athena.authentication.session.Session;
+import athena.interceptor.InterceptorAction;
+import okhttp3.Request;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs the user interceptor actions and adds the authorization and client headers to every request.
+ * Used by {@link AthenaImpl#intercept(okhttp3.Interceptor.Chain)}
+ */
+final class RequestHeaders {
+
+    // Credits: armisto for user-agent, X-Epic-Correlation-ID info
+    static final String USER_AGENT = "Fortnite/++Fortnite+Release-12.61-CL-13498980 IOS/13.4.1";
+
+    /**
+     * The interceptor actions, in order.
+     */
+    private final List<InterceptorAction> actions;
+    /**
+     * The current session, or {@code null} if not authenticated yet.
+     */
+    private final Supplier<Session> session;
+
+    RequestHeaders(List<InterceptorAction> actions, Supplier<Session> session) {
+        this.actions = actions;
+        this.session = session;
+    }
+
+    /**
+     * Apply the interceptor actions and headers to {@code request}
+     *
+     * @param request the request
+     * @return the request to proceed with.
+     */
+    Request apply(Request request) {
+        // Go through all interceptor chains.
+        // Each action will take the request from the last action.
+        var nextRequestChain = request;
+        for (InterceptorAction action : actions) nextRequestChain = action.run(nextRequestChain);
+
+        // we lost the original request!
+        if (nextRequestChain == null) nextRequestChain = request;
+        // we already have an authorization header or we don't have a session yet, continue.
+        final var current = session.get();
+        if (nextRequestChain.header("Authorization") != null || current == null) return request;
+
+        // add in the authorization header for the final request.
+        // TODO: diff random uuid gen for fn requests
+        return nextRequestChain.newBuilder()
+                .addHeader("Authorization", "bearer " + current.accessToken())
+                .addHeader("User-Agent", USER_AGENT)
+                .addHeader("X-Epic-Correlation-ID", UUID.randomUUID().toString())
+                .build();
+    }
+
+}
@@ -13,6 +13,7 @@ import athena.util.request.Result;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides easy access to {@link AccountPublicService}
@@ -64,6 +65,18 @@ public final class Accounts {
         Requests.executeCallAsync(call, callback);
     }
 
+    /**
+     * Find an account by display name.
+     *
+     * @param displayName the display name of the account
+     * @return a {@link CompletableFuture} that will contain the account if found.
+     */
+    public CompletableFuture<Account> findByDisplayNameAsync(String displayName) {
+        if (displayName == null) throw new NullPointerException("displayName is null.");
+        final var call = service.findByDisplayName(displayName);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Finds an account by account ID.
      *
@@ -91,6 +104,21 @@ public final class Accounts {
         Requests.executeCallAsync(call, callback);
     }
 
+    /**
+     * Find an account by ID.
+     *
+     * @param accountId the ID of the account
+     * @return a {@link CompletableFuture} that will contain the account if found.
+     */
+    public CompletableFuture<Account> findByAccountIdAsync(String accountId) {
+        if (accountId == null) throw new NullPointerException("accountId is null.");
+        final var call = service.findOneByAccountId(accountId);
+        return Requests.executeCallAsync(call).thenApply(result -> {
+            if (result.isEmpty()) throw EpicGamesErrorException.create("Failed to find account " + accountId);
+            return result.get(0);
+        });
+    }
+
     /**
      * Find multiple accounts by account ID.
      *
@@ -139,6 +167,29 @@ public final class Accounts {
         findManyByAccountId(callback, accounts.toArray(String[]::new));
     }
 
+    /**
+     * Find multiple accounts async.
+     *
+     * @param accounts an array of accounts
+     * @return a {@link CompletableFuture} that will contain the list of accounts found.
+     */
+    public CompletableFuture<List<Account>> findManyByAccountIdAsync(String... accounts) {
+        if (accounts == null) throw new NullPointerException("accounts is null.");
+        if (accounts.length > 100) throw new IllegalArgumentException("accounts array cannot be greater than 100.");
+        final var call = service.findManyByAccountId(accounts);
+        return Requests.executeCallAsync(call);
+    }
+
+    /**
+     * Find multiple accounts async.
+     *
+     * @param accounts a collection of accounts
+     * @return a {@link CompletableFuture} that will contain the list of accounts found.
+     */
+    public CompletableFuture<List<Account>> findManyByAccountIdAsync(Collection<String> accounts) {
+        return findManyByAccountIdAsync(accounts.toArray(String[]::new));
+    }
+
     /**
      * Retrieve the profile of current authenticated account
      *
@@ -150,6 +201,16 @@ public final class Accounts {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Retrieve the profile of current authenticated account
+     *
+     * @return a {@link CompletableFuture} that will contain the {@link EpicGamesProfile}
+     */
+    public CompletableFuture<EpicGamesProfile> profileAsync() {
+        final var call = service.profile(accountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Creates a new device-auth.
      *
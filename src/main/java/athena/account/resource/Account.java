@@ -9,6 +9,7 @@ import athena.friend.service.FriendsPublicService;
 import athena.friend.xmpp.event.events.FriendRequestEvent;
 import athena.friend.xmpp.listener.FriendEventListener;
 import athena.types.Platform;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.hooks.PostDeserialize;
 import athena.util.json.request.Request;
 import athena.util.request.Requests;
@@ -26,6 +27,7 @@ import java.util.function.Consumer;
 /**
  * Represents a Fortnite account.
  */
+@StreamingAdapter
 public final class Account {
     /**
      * The account ID for this account.
@@ -35,11 +37,11 @@ public final class Account {
     /**
      * The display name of this account.
      */
-    private String displayName;
+    private volatile String displayName;
     /**
      * A list of external auths.
      */
-    private Map<String, ExternalAuth> externalAuths;
+    private volatile Map<String, ExternalAuth> externalAuths;
     /**
      * Bare JID of this account.
      */
@@ -70,6 +72,17 @@ public final class Account {
         jid = JidCreate.bareFromOrThrowUnchecked(accountId + "@prod.ol.epicgames.com");
     }
 
+    /**
+     * Update this account with newer values from {@code other}, used by {@link AccountRegistry}
+     * Values missing from {@code other} are kept.
+     *
+     * @param other the other account
+     */
+    void merge(Account other) {
+        if (other.displayName != null) displayName = other.displayName;
+        if (other.externalAuths != null) externalAuths = other.externalAuths;
+    }
+
     /**
      * @return the ID of this account.
      */
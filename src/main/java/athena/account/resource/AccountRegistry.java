@@ -0,0 +1,88 @@
+package athena.account.resource;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link Account} instance per account ID.
+ * Accounts are weakly referenced so accounts nobody uses anymore are removed automatically.
+ */
+public final class AccountRegistry {
+
+    /**
+     * The canonical account for each account ID.
+     */
+    private final ConcurrentHashMap<String, Entry> accounts = new ConcurrentHashMap<>();
+    /**
+     * Collected accounts.
+     */
+    private final ReferenceQueue<Account> queue = new ReferenceQueue<>();
+
+    /**
+     * Get the canonical instance for {@code account}
+     * If there is one already it is updated with the values from {@code account} and returned,
+     * otherwise {@code account} becomes the canonical instance.
+     *
+     * @param account the account
+     * @return the canonical account
+     */
+    public Account canonicalize(Account account) {
+        final var accountId = account.accountId();
+        if (accountId == null) return account;
+        expunge();
+
+        while (true) {
+            final var entry = accounts.get(accountId);
+            final var existing = entry == null ? null : entry.get();
+            if (existing != null) {
+                if (existing != account) existing.merge(account);
+                return existing;
+            }
+
+            final var replacement = new Entry(accountId, account, queue);
+            if (entry == null ? accounts.putIfAbsent(accountId, replacement) == null : accounts.replace(accountId, entry, replacement)) {
+                return account;
+            }
+        }
+    }
+
+    /**
+     * Get the canonical account for an account ID
+     *
+     * @param accountId the account ID
+     * @return the account or {@code null} if there is none.
+     */
+    public Account get(String accountId) {
+        final var entry = accounts.get(accountId);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * @return the amount of account IDs, including accounts that were collected but not removed yet.
+     */
+    public int size() {
+        return accounts.size();
+    }
+
+    /**
+     * Remove accounts that were collected.
+     */
+    private void expunge() {
+        Entry entry;
+        while ((entry = (Entry) queue.poll()) != null) accounts.remove(entry.accountId, entry);
+    }
+
+    /**
+     * A weak reference that knows its account ID.
+     */
+    private static final class Entry extends WeakReference<Account> {
+        private final String accountId;
+
+        private Entry(String accountId, Account account, ReferenceQueue<Account> queue) {
+            super(account, queue);
+            this.accountId = accountId;
+        }
+    }
+
+}
@@ -73,6 +73,15 @@ public interface AccountPublicService {
     @DELETE("account/api/oauth/sessions/kill/{accessToken}")
     Call<Void> killAccessToken(@Path("accessToken") String accessToken);
 
+    /**
+     * Verifies an access token is still valid.
+     *
+     * @param authorizationToken the authorization token, "bearer {accessToken}"
+     * @return Void
+     */
+    @GET("account/api/oauth/verify")
+    Call<Void> verify(@Header("Authorization") String authorizationToken);
+
     /**
      * Grant a new session.
      *
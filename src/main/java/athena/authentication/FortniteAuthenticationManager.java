@@ -14,7 +14,6 @@ import com.google.common.flogger.FluentLogger;
 import com.google.gson.Gson;
 import okhttp3.Cookie;
 import okhttp3.FormBody;
-import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.apache.commons.lang3.StringUtils;
 
@@ -180,7 +179,7 @@ public final class FortniteAuthenticationManager {
      * @return the token or ""
      */
     private String xsrf() {
-        final var cookies = client.cookieJar().loadForRequest(HttpUrl.get("https://www.epicgames.com/id/api/csrf"));
+        final var cookies = client.cookieJar().loadForRequest(authenticationService.csrf().request().url());
         return cookies
                 .stream()
                 .filter(cookie -> cookie.name().equalsIgnoreCase("XSRF-TOKEN"))
@@ -0,0 +1,170 @@
+package athena.authentication.session;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * An encrypted file used to keep a session between restarts.
+ * Pass this to {@link athena.Athena.Builder#sessionStore(SessionStore)}, athena will then reuse the stored session instead of logging in again.
+ * <p>
+ * The file is encrypted with AES-GCM using a key derived from {@code passphrase}.
+ * Anyone with the file and the passphrase can use the account, keep both private.
+ */
+public final class SessionStore {
+
+    private static final int SALT_LENGTH = 16, IV_LENGTH = 12, TAG_LENGTH = 128, ITERATIONS = 65536;
+
+    /**
+     * Used for salts and IVs.
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * The file.
+     */
+    private final Path file;
+    /**
+     * The passphrase.
+     */
+    private final char[] passphrase;
+
+    /**
+     * The derived key and the salt it was derived with, key derivation is slow so this is reused.
+     */
+    private byte[] salt;
+    private SecretKey key;
+
+    private SessionStore(Path file, char[] passphrase) {
+        this.file = file;
+        this.passphrase = passphrase.clone();
+    }
+
+    /**
+     * Creates a new store.
+     *
+     * @param file       the file to store the session in, it does not need to exist.
+     * @param passphrase the passphrase used to encrypt the file.
+     * @return a new {@link SessionStore}
+     */
+    public static SessionStore encrypted(Path file, char[] passphrase) {
+        if (file == null) throw new NullPointerException("file is null.");
+        if (passphrase == null || passphrase.length == 0) throw new IllegalArgumentException("A passphrase is required.");
+        return new SessionStore(file, passphrase);
+    }
+
+    /**
+     * @return the file.
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Read and decrypt the stored contents.
+     *
+     * @return the contents or {@code null} if nothing is stored.
+     * @throws IOException if the file could not be read or decrypted.
+     */
+    public synchronized String read() throws IOException {
+        if (!Files.exists(file)) return null;
+        final var buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < SALT_LENGTH + IV_LENGTH) throw new IOException("Session store is corrupt.");
+
+        final var salt = new byte[SALT_LENGTH];
+        final var iv = new byte[IV_LENGTH];
+        final var encrypted = new byte[buffer.get(salt).get(iv).remaining()];
+        buffer.get(encrypted);
+        try {
+            final var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, keyFor(salt), new GCMParameterSpec(TAG_LENGTH, iv));
+            return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException exception) {
+            throw new IOException("Failed to decrypt session store.", exception);
+        }
+    }
+
+    /**
+     * Encrypt and write {@code contents}, replacing the old contents.
+     *
+     * @param contents the contents
+     * @throws IOException if the file could not be written.
+     */
+    public synchronized void write(String contents) throws IOException {
+        if (salt == null) {
+            final var salt = new byte[SALT_LENGTH];
+            RANDOM.nextBytes(salt);
+            keyFor(salt);
+        }
+
+        final var iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        final byte[] encrypted;
+        try {
+            final var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, iv));
+            encrypted = cipher.doFinal(contents.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException exception) {
+            throw new IOException("Failed to encrypt session store.", exception);
+        }
+
+        // write to a temporary file first so a crash never leaves a half written store.
+        final var directory = file.toAbsolutePath().getParent();
+        if (directory != null) Files.createDirectories(directory);
+        final var temporary = directory == null ? Files.createTempFile("session", ".tmp") : Files.createTempFile(directory, "session", ".tmp");
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString("rw-------"));
+            }
+            Files.write(temporary, ByteBuffer.allocate(salt.length + iv.length + encrypted.length).put(salt).put(iv).put(encrypted).array());
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Delete the stored contents.
+     *
+     * @throws IOException if the file could not be deleted.
+     */
+    public synchronized void clear() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Get the key for {@code salt}, deriving it if needed.
+     *
+     * @param salt the salt
+     * @return the key
+     * @throws IOException if the key could not be derived.
+     */
+    private SecretKey keyFor(byte[] salt) throws IOException {
+        if (key != null && Arrays.equals(this.salt, salt)) return key;
+        try {
+            final var spec = new PBEKeySpec(passphrase, salt, ITERATIONS, 256);
+            final var encoded = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+            spec.clearPassword();
+            this.salt = salt;
+            this.key = new SecretKeySpec(encoded, "AES");
+            return key;
+        } catch (GeneralSecurityException exception) {
+            throw new IOException("Failed to derive session store key.", exception);
+        }
+    }
+
+}
@@ -8,9 +8,9 @@ import athena.exception.EpicGamesErrorException;
 import athena.friend.resource.Friend;
 import athena.friend.resource.summary.Profile;
 import athena.friend.service.FriendsPublicService;
+import athena.xmpp.StanzaDispatcher;
 import org.jivesoftware.smack.SmackException;
 import org.jivesoftware.smack.StanzaListener;
-import org.jivesoftware.smack.filter.MessageTypeFilter;
 import org.jivesoftware.smack.packet.Message;
 import org.jivesoftware.smack.packet.Stanza;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
@@ -54,7 +54,7 @@ public final class FriendChat implements StanzaListener, Closeable {
         this.localAccountId = localAccountId;
         this.accounts = accounts;
         this.friendsPublicService = friendsPublicService;
-        connection.addAsyncStanzaListener(this, MessageTypeFilter.CHAT);
+        StanzaDispatcher.getInstanceFor(connection).addChatListener(this);
     }
 
     /**
@@ -156,7 +156,7 @@ public final class FriendChat implements StanzaListener, Closeable {
 
     @Override
     public void close() {
-        connection.removeAsyncStanzaListener(this);
+        StanzaDispatcher.getInstanceFor(connection).removeChatListener(this);
 
         messageConsumers.clear();
         messageListeners.clear();
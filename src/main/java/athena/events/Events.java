@@ -8,6 +8,8 @@ import athena.events.service.EventsPublicService;
 import athena.types.Platform;
 import athena.util.request.Requests;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Provides easy access to the {@link EventsPublicService}
  */
@@ -51,6 +53,30 @@ public final class Events {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Download events for this account.
+     *
+     * @param region   the region, ex: NAE
+     * @param platform the platform, ex: Windows for platforms see {@link athena.types.Platform}
+     * @return a {@link CompletableFuture} that will contain the {@link FortniteEventDownload}
+     */
+    public CompletableFuture<FortniteEventDownload> downloadEventsAsync(String region, Platform platform) {
+        return downloadEventsAsync(region, platform, localAccountId);
+    }
+
+    /**
+     * Download events for this account/team.
+     *
+     * @param region         the region, ex: NAE
+     * @param platform       the platform, ex: Windows for platforms see {@link athena.types.Platform}
+     * @param teamAccountIds the account IDs of the team must be separated by comma. {accountId1,accountId2,etc}
+     * @return a {@link CompletableFuture} that will contain the {@link FortniteEventDownload}
+     */
+    public CompletableFuture<FortniteEventDownload> downloadEventsAsync(String region, Platform platform, String... teamAccountIds) {
+        final var call = service.download(localAccountId, region, platform.names().get(1), teamAccountIds);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Download event data for this account.
      *
@@ -63,6 +89,18 @@ public final class Events {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Download event data for this account.
+     *
+     * @param region         the region, ex: NAE
+     * @param showPastEvents {@code true} if past events should be given.
+     * @return a {@link CompletableFuture} that will contain the {@link FortniteEventDownload}
+     */
+    public CompletableFuture<FortniteEventDownload> downloadDataAsync(String region, boolean showPastEvents) {
+        final var call = service.data(localAccountId, region, showPastEvents);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Retrieve leaderboards for an event.
      *
@@ -78,6 +116,21 @@ public final class Events {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Retrieve leaderboards for an event.
+     *
+     * @param eventId          the event ID.
+     * @param eventWindowId    the event window ID.
+     * @param page             the page, or {@code 0}
+     * @param rank             the rank, or {@code 0}
+     * @param showLiveSessions {@code true} if live sessions should be shown, TODO: Not supported yet.
+     * @return a {@link CompletableFuture} that will contain the {@link EventLeaderboard}
+     */
+    public CompletableFuture<EventLeaderboard> leaderboardsAsync(String eventId, String eventWindowId, int page, int rank, boolean showLiveSessions) {
+        final var call = service.leaderboards(eventId, eventWindowId, localAccountId, page, rank, showLiveSessions);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Retrieve leaderboards for an event.
      *
@@ -94,6 +147,22 @@ public final class Events {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Retrieve leaderboards for an event.
+     *
+     * @param eventId          the event ID.
+     * @param eventWindowId    the event window ID.
+     * @param teamAccountIds   the account IDs of the team must be separated by comma. {accountId1,accountId2,etc}
+     * @param page             the page, or {@code 0}
+     * @param rank             the rank, or {@code 0}
+     * @param showLiveSessions {@code true} if live sessions should be shown, TODO: Not supported yet.
+     * @return a {@link CompletableFuture} that will contain the {@link EventLeaderboard}
+     */
+    public CompletableFuture<EventLeaderboard> leaderboardsAsync(String eventId, String eventWindowId, String teamAccountIds, int page, int rank, boolean showLiveSessions) {
+        final var call = service.leaderboards(eventId, eventWindowId, localAccountId, page, rank, teamAccountIds, "Fortnite", showLiveSessions);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Get the player data
      *
@@ -104,6 +173,16 @@ public final class Events {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get the player data
+     *
+     * @return a {@link CompletableFuture} that will contain the {@link EventPlayer}
+     */
+    public CompletableFuture<EventPlayer> playerAsync() {
+        final var call = service.player(localAccountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Get a list of tokens each account ID has
      *
@@ -115,4 +194,15 @@ public final class Events {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get a list of tokens each account ID has
+     *
+     * @param teamAccountIds the team account IDs
+     * @return a {@link CompletableFuture} that will contain the {@link PlayerTokenResponse}
+     */
+    public CompletableFuture<PlayerTokenResponse> tokensAsync(String... teamAccountIds) {
+        final var call = service.tokens(teamAccountIds);
+        return Requests.executeCallAsync(call);
+    }
+
 }
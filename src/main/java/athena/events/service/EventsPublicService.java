@@ -4,6 +4,7 @@ import athena.events.resource.download.event.FortniteEventDownload;
 import athena.events.resource.download.player.EventPlayer;
 import athena.events.resource.leaderboard.EventLeaderboard;
 import athena.events.resource.player.PlayerTokenResponse;
+import athena.util.request.cache.Cacheable;
 import com.google.gson.JsonElement;
 import retrofit2.Call;
 import retrofit2.http.GET;
@@ -31,6 +32,7 @@ public interface EventsPublicService {
      * @param teamAccountIds the team account IDs, usually just the {@code accountId}
      * @return a {@link Call} returned by retrofit containing the {@link FortniteEventDownload} if the call was successful.
      */
+    @Cacheable
     @GET("api/v1/events/Fortnite/download/{accountId}")
     Call<FortniteEventDownload> download(@Path("accountId") String accountId, @Query("region") String region, @Query("platform") String platform, @Query("teamAccountIds") String[] teamAccountIds);
 
@@ -90,6 +92,7 @@ public interface EventsPublicService {
      * @param showPastEvents {@code true} if past events should be given?
      * @return a {@link Call} returned by retrofit containing the {@link FortniteEventDownload} if the call was successful.
      */
+    @Cacheable
     @GET("api/v1/events/Fortnite/data/{accountId}")
     Call<FortniteEventDownload> data(@Path("accountId") String accountId, @Query("region") String region, @Query("showPastEvents") boolean showPastEvents);
 
@@ -5,6 +5,8 @@ import athena.fortnite.shop.Storefront;
 import athena.fortnite.shop.StorefrontCatalog;
 import athena.util.request.Requests;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Provides easy access to various things within {@link athena.fortnite.service.FortnitePublicService}
  */
@@ -29,6 +31,16 @@ public final class Fortnite {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Retrieve the entire catalog.
+     *
+     * @return a {@link CompletableFuture} that will contain the entire catalog.
+     */
+    public CompletableFuture<StorefrontCatalog> storefrontCatalogAsync() {
+        final var call = service.storefrontCatalog();
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * @return the daily store-front.
      */
@@ -53,4 +65,14 @@ public final class Fortnite {
         return storefrontCatalog().get(name);
     }
 
+    /**
+     * Get a specific storefront by name.
+     *
+     * @param name the name.
+     * @return a {@link CompletableFuture} that will contain the storefront.
+     */
+    public CompletableFuture<Storefront> getStorefrontAsync(String name) {
+        return storefrontCatalogAsync().thenApply(catalog -> catalog.get(name));
+    }
+
 }
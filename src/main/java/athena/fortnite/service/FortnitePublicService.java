@@ -3,6 +3,7 @@ package athena.fortnite.service;
 import athena.fortnite.creative.CreativeHistoryResponse;
 import athena.fortnite.receipt.Receipt;
 import athena.fortnite.shop.StorefrontCatalog;
+import athena.util.request.cache.Cacheable;
 import com.google.gson.JsonElement;
 import retrofit2.Call;
 import retrofit2.http.GET;
@@ -26,6 +27,7 @@ public interface FortnitePublicService {
      *
      * @return a {@link Call} returned by retrofit containing the {@link StorefrontCatalog} if the call was successful.
      */
+    @Cacheable
     @GET("fortnite/api/storefront/v2/catalog")
     Call<StorefrontCatalog> storefrontCatalog();
 
@@ -81,6 +83,7 @@ public interface FortnitePublicService {
      *
      * @return json element.
      */
+    @Cacheable
     @GET("fortnite/api/calendar/v1/timeline")
     Call<JsonElement> calendarTimeline();
 
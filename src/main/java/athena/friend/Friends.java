@@ -16,21 +16,21 @@ import athena.friend.xmpp.types.blocklist.BlockListUpdate;
 import athena.friend.xmpp.types.friend.FriendApiObject;
 import athena.friend.xmpp.types.friend.Friendship;
 import athena.util.event.EventFactory;
+import athena.util.event.EventMetrics;
 import athena.util.request.Requests;
+import athena.xmpp.StanzaDispatcher;
 import com.google.gson.Gson;
-import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import okhttp3.RequestBody;
-import org.jivesoftware.smack.StanzaListener;
-import org.jivesoftware.smack.filter.MessageTypeFilter;
-import org.jivesoftware.smack.packet.Message;
-import org.jivesoftware.smack.packet.Stanza;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -57,7 +57,7 @@ public final class Friends implements Closeable {
     /**
      * Provides event handling and registering/unregistering.
      */
-    private final EventFactory factory = EventFactory.createAnnotatedFactory(FriendEvent.class);
+    private final EventFactory factory;
     /**
      * A list of all listeners registered.
      */
@@ -68,11 +68,20 @@ public final class Friends implements Closeable {
     private final ConcurrentHashMap<String, List<FriendEventListener>> accountListeners = new ConcurrentHashMap<>();
 
     public Friends(FriendsPublicService service, XMPPTCPConnection connection, String localAccountId, Gson gson) {
+        this(service, connection, localAccountId, gson, null);
+    }
+
+    public Friends(FriendsPublicService service, XMPPTCPConnection connection, String localAccountId, Gson gson, Executor eventExecutor) {
+        this.factory = EventFactory.createAnnotatedFactory(eventExecutor, FriendEvent.class);
         this.service = service;
         this.connection = connection;
         this.localAccountId = localAccountId;
         this.gson = gson;
-        if (connection != null) connection.addAsyncStanzaListener(eventListener, MessageTypeFilter.NORMAL);
+        if (connection != null) {
+            for (var type : FriendType.values()) {
+                if (type != FriendType.UNKNOWN) StanzaDispatcher.getInstanceFor(connection).register(type.type(), eventListener);
+            }
+        }
     }
 
     /**
@@ -93,6 +102,17 @@ public final class Friends implements Closeable {
         Requests.executeVoidCall(call);
     }
 
+    /**
+     * Adds a friend via their account ID.
+     *
+     * @param accountId the ID of the account.
+     * @return a {@link CompletableFuture} that is completed once the request is executed.
+     */
+    public CompletableFuture<Void> addAsync(String accountId) {
+        final var call = service.add(localAccountId, accountId);
+        return Requests.executeVoidCallAsync(call);
+    }
+
     /**
      * Removes a friend via their account ID.
      *
@@ -104,6 +124,17 @@ public final class Friends implements Closeable {
         Requests.executeVoidCall(call);
     }
 
+    /**
+     * Removes a friend via their account ID.
+     *
+     * @param accountId the ID of the account.
+     * @return a {@link CompletableFuture} that is completed once the request is executed.
+     */
+    public CompletableFuture<Void> removeOrDeclineAsync(String accountId) {
+        final var call = service.remove(localAccountId, accountId);
+        return Requests.executeVoidCallAsync(call);
+    }
+
     /**
      * Blocks a friend via their account ID.
      *
@@ -115,6 +146,17 @@ public final class Friends implements Closeable {
         Requests.executeVoidCall(call);
     }
 
+    /**
+     * Blocks a friend via their account ID.
+     *
+     * @param accountId the ID of the account.
+     * @return a {@link CompletableFuture} that is completed once the request is executed.
+     */
+    public CompletableFuture<Void> blockAsync(String accountId) {
+        final var call = service.block(localAccountId, accountId);
+        return Requests.executeVoidCallAsync(call);
+    }
+
     /**
      * Unblocks a friend via their account ID.
      *
@@ -126,6 +168,17 @@ public final class Friends implements Closeable {
         Requests.executeVoidCall(call);
     }
 
+    /**
+     * Unblocks a friend via their account ID.
+     *
+     * @param accountId the ID of the account.
+     * @return a {@link CompletableFuture} that is completed once the request is executed.
+     */
+    public CompletableFuture<Void> unblockAsync(String accountId) {
+        final var call = service.unblock(localAccountId, accountId);
+        return Requests.executeVoidCallAsync(call);
+    }
+
     /**
      * Gets a list of all friends.
      *
@@ -138,6 +191,17 @@ public final class Friends implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Gets a list of all friends.
+     *
+     * @param includePending {@code true} if pending friend requests should be included.
+     * @return a {@link CompletableFuture} that will contain the list of friends
+     */
+    public CompletableFuture<List<Friend>> friendsAsync(boolean includePending) {
+        final var call = service.friends(localAccountId, includePending);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Gets a list of all blocked friends.
      *
@@ -149,6 +213,16 @@ public final class Friends implements Closeable {
         return Requests.executeCall(call).stream().map(Blocked::accountId).collect(Collectors.toList());
     }
 
+    /**
+     * Gets a list of all blocked friends.
+     *
+     * @return a {@link CompletableFuture} that will contain the list of all blocked friends (account IDs)
+     */
+    public CompletableFuture<List<String>> blockedAsync() {
+        final var call = service.blocked(localAccountId);
+        return Requests.executeCallAsync(call).thenApply(blocked -> blocked.stream().map(Blocked::accountId).collect(Collectors.toList()));
+    }
+
     /**
      * Sets the alias (nickname) of a friend.
      *
@@ -251,6 +325,17 @@ public final class Friends implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get a friend profile.
+     *
+     * @param accountId the account ID of the friend.
+     * @return a {@link CompletableFuture} that will contain the {@link Profile}
+     */
+    public CompletableFuture<Profile> friendProfileAsync(String accountId) {
+        final var call = service.profile(localAccountId, accountId, true);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Get a friend profile.
      *
@@ -273,6 +358,16 @@ public final class Friends implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get the friend summary.
+     *
+     * @return a {@link CompletableFuture} that will contain the {@link Summary}
+     */
+    public CompletableFuture<Summary> summaryAsync() {
+        final var call = service.summary(localAccountId, true);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Get the current friend settings.
      *
@@ -284,6 +379,16 @@ public final class Friends implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get the current friend settings.
+     *
+     * @return a {@link CompletableFuture} that will contain the {@link FriendSettings}
+     */
+    public CompletableFuture<FriendSettings> settingsAsync() {
+        final var call = service.settings(localAccountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Set the friend settings
      *
@@ -304,6 +409,26 @@ public final class Friends implements Closeable {
         factory.registerEventListener(type);
     }
 
+    /**
+     * Register an event listener that is called on {@code executor}
+     *
+     * @param type     the class/type to register.
+     * @param executor the executor, {@code null} to call the listener on the XMPP thread.
+     */
+    public void registerEventListener(Object type, Executor executor) {
+        factory.registerEventListener(type, executor);
+    }
+
+    /**
+     * Get the dispatch metrics of an event listener.
+     *
+     * @param type the listener
+     * @return the {@link EventMetrics} or {@code null} if the listener is not registered.
+     */
+    public EventMetrics eventMetrics(Object type) {
+        return factory.metrics(type);
+    }
+
     /**
      * Unregister an event listener.
      *
@@ -372,7 +497,9 @@ public final class Friends implements Closeable {
 
     @Override
     public void close() {
-        if (connection != null) connection.removeAsyncStanzaListener(eventListener);
+        if (connection != null) {
+            for (var type : FriendType.values()) StanzaDispatcher.getInstanceFor(connection).unregister(type.type(), eventListener);
+        }
 
         factory.dispose();
         listeners.clear();
@@ -382,39 +509,29 @@ public final class Friends implements Closeable {
     /**
      * The XMPP event listener.
      */
-    private final class Listener implements StanzaListener {
+    private final class Listener implements StanzaDispatcher.Handler {
         @Override
-        public void processStanza(Stanza packet) {
-            final var message = (Message) packet;
-            // Make sure we don't have a JSON array.
-            // This fixes a new issue discovered, epic changed their backend
-            // to include a new message type that is an array - not an object.
-            // 1/29/2020 - 6:08PM
-            final var element = gson.fromJson(message.getBody(), JsonElement.class);
-            final var object = element.getAsJsonObject();
-            if (object.has("interactions")) return; // ignore interactions types.
-            final var type = object.getAsJsonPrimitive("type").getAsString();
-            final var of = FriendType.typeOf(type);
-            if (of == FriendType.UNKNOWN) return;
-
+        public void handle(JsonObject object) {
+            // only registered for known friend types.
+            final var of = FriendType.typeOf(object.getAsJsonPrimitive("type").getAsString());
             switch (of) {
                 case FRIEND:
                 case FRIEND_REMOVAL:
-                    final var friendApiObject = gson.fromJson(message.getBody(), FriendApiObject.class);
+                    final var friendApiObject = gson.fromJson(object, FriendApiObject.class);
                     friendApiObject(friendApiObject, of);
                     break;
                 case FRIENDSHIP_REQUEST:
                 case FRIENDSHIP_REMOVE:
-                    final var friendship = gson.fromJson(message.getBody(), Friendship.class);
+                    final var friendship = gson.fromJson(object, Friendship.class);
                     friendship(friendship, of);
                     break;
                 case BLOCK_LIST_ENTRY_ADDED:
                 case BLOCK_LIST_ENTRY_REMOVED:
-                    final var blockListEntry = gson.fromJson(message.getBody(), BlockListEntry.class);
+                    final var blockListEntry = gson.fromJson(object, BlockListEntry.class);
                     blockListEntry(blockListEntry, of);
                     break;
                 case USER_BLOCKLIST_UPDATE:
-                    final var blockListUpdate = gson.fromJson(message.getBody(), BlockListUpdate.class);
+                    final var blockListUpdate = gson.fromJson(object, BlockListUpdate.class);
                     blockListUpdate(blockListUpdate);
                     break;
             }
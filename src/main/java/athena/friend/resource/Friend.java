@@ -8,6 +8,7 @@ import athena.friend.resource.summary.Profile;
 import athena.friend.resource.types.FriendDirection;
 import athena.friend.resource.types.FriendStatus;
 import athena.friend.service.FriendsPublicService;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.hooks.PostDeserialize;
 import athena.util.json.request.Request;
 import athena.util.request.Requests;
@@ -20,6 +21,7 @@ import java.time.Instant;
 /**
  * Represents an Epic Games/Fortnite friend.
  */
+@StreamingAdapter
 public final class Friend {
 
     /**
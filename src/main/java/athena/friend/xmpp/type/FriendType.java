@@ -1,6 +1,9 @@
 package athena.friend.xmpp.type;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Represents a friend types type.
@@ -41,9 +44,9 @@ public enum FriendType {
     UNKNOWN("UNKNOWN");
 
     /**
-     * List of types.
+     * All types by their lower case type name.
      */
-    private static final List<FriendType> TYPES = List.of(values());
+    private static final Map<String, FriendType> TYPES = Arrays.stream(values()).collect(Collectors.toUnmodifiableMap(friendType -> friendType.type.toLowerCase(Locale.ROOT), friendType -> friendType));
     /**
      * The type name.
      */
@@ -64,7 +67,8 @@ public enum FriendType {
      * @return the types type.
      */
     public static FriendType typeOf(String type) {
-        return TYPES.stream().filter(friendType -> friendType.type.equalsIgnoreCase(type)).findAny().orElse(UNKNOWN);
+        if (type == null) return UNKNOWN;
+        return TYPES.getOrDefault(type.toLowerCase(Locale.ROOT), UNKNOWN);
     }
 
 }
@@ -31,13 +31,11 @@ import athena.party.xmpp.event.party.PartyUpdatedEvent;
 import athena.types.Input;
 import athena.types.Platform;
 import athena.util.event.EventFactory;
+import athena.util.event.EventMetrics;
 import athena.util.request.Requests;
+import athena.xmpp.StanzaDispatcher;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
-import org.jivesoftware.smack.StanzaListener;
-import org.jivesoftware.smack.filter.MessageTypeFilter;
-import org.jivesoftware.smack.packet.Message;
-import org.jivesoftware.smack.packet.Stanza;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 import org.jivesoftware.smackx.muc.MultiUserChatManager;
 
@@ -45,6 +43,7 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -61,7 +60,7 @@ public final class Parties implements Closeable {
     /**
      * The event factory.
      */
-    private final EventFactory eventFactory = EventFactory.createAnnotatedFactory(PartyEvent.class);
+    private final EventFactory eventFactory;
     /**
      * The XMPP event listener.
      */
@@ -109,6 +108,11 @@ public final class Parties implements Closeable {
     private final Platform platform;
 
     public Parties(PartyService service, Gson gson, XMPPTCPConnection connection, String localAccountId, String displayName, Platform platform) {
+        this(service, gson, connection, localAccountId, displayName, platform, null);
+    }
+
+    public Parties(PartyService service, Gson gson, XMPPTCPConnection connection, String localAccountId, String displayName, Platform platform, Executor eventExecutor) {
+        this.eventFactory = EventFactory.createAnnotatedFactory(eventExecutor, PartyEvent.class);
         this.service = service;
         this.gson = gson;
         this.connection = connection;
@@ -119,7 +123,9 @@ public final class Parties implements Closeable {
         this.client = new ClientPartyMember(service, gson, localAccountId, displayName, platform);
         this.clientParty = new ClientParty(service, null, gson);
         this.chat = new PartyChat(MultiUserChatManager.getInstanceFor(connection));
-        connection.addAsyncStanzaListener(eventListener, MessageTypeFilter.NORMAL);
+        for (var notification : PartyNotification.values()) {
+            if (notification != PartyNotification.UNKNOWN) StanzaDispatcher.getInstanceFor(connection).register(notification.type(), eventListener);
+        }
     }
 
     public void onPing(Consumer<PartyPingEvent> event) {
@@ -235,6 +241,17 @@ public final class Parties implements Closeable {
         Requests.executeCall(service.invite(party.partyId(), accountId, new PartyInvitationRequest(displayName, platform)));
     }
 
+    /**
+     * Invite a member to this party.
+     *
+     * @param accountId the account ID.
+     * @return a {@link CompletableFuture} that is completed once the invite is sent.
+     */
+    public CompletableFuture<Void> inviteAsync(String accountId) {
+        if (party == null) return CompletableFuture.completedFuture(null);
+        return Requests.executeVoidCallAsync(service.invite(party.partyId(), accountId, new PartyInvitationRequest(displayName, platform)));
+    }
+
     /**
      * Updates/refreshes squad assignments.
      * Only updates if the current account is leader.
@@ -356,6 +373,17 @@ public final class Parties implements Closeable {
         return this;
     }
 
+    /**
+     * Promote a member in the party
+     *
+     * @param accountId the account ID.
+     * @return a {@link CompletableFuture} that is completed once the member is promoted.
+     */
+    public CompletableFuture<Void> promoteAsync(String accountId) {
+        if (party == null) return CompletableFuture.completedFuture(null);
+        return Requests.executeVoidCallAsync(service.promote(party.partyId(), accountId));
+    }
+
     /**
      * Promote a member in the party
      *
@@ -377,6 +405,17 @@ public final class Parties implements Closeable {
         return this;
     }
 
+    /**
+     * Kick a member in the party
+     *
+     * @param accountId the account ID.
+     * @return a {@link CompletableFuture} that is completed once the member is kicked.
+     */
+    public CompletableFuture<Void> kickAsync(String accountId) {
+        if (party == null) return CompletableFuture.completedFuture(null);
+        return Requests.executeVoidCallAsync(service.kick(party.partyId(), accountId));
+    }
+
     /**
      * Kick a member in the party
      *
@@ -682,6 +721,16 @@ public final class Parties implements Closeable {
         return this;
     }
 
+    /**
+     * Retrieve a party by its ID.
+     *
+     * @param partyId the party ID.
+     * @return a {@link CompletableFuture} that will contain the {@link Party}
+     */
+    public CompletableFuture<Party> getPartyAsync(String partyId) {
+        return Requests.executeCallAsync(service.getParty(partyId));
+    }
+
     /**
      * Update a member.
      *
@@ -736,6 +785,26 @@ public final class Parties implements Closeable {
         eventFactory.registerEventListener(listener);
     }
 
+    /**
+     * Register an event listener that is called on {@code executor}
+     *
+     * @param listener the class/type to register.
+     * @param executor the executor, {@code null} to call the listener on the XMPP thread.
+     */
+    public void registerEventListener(Object listener, Executor executor) {
+        eventFactory.registerEventListener(listener, executor);
+    }
+
+    /**
+     * Get the dispatch metrics of an event listener.
+     *
+     * @param listener the listener
+     * @return the {@link EventMetrics} or {@code null} if the listener is not registered.
+     */
+    public EventMetrics eventMetrics(Object listener) {
+        return eventFactory.metrics(listener);
+    }
+
     /**
      * Unregister an event listener
      *
@@ -749,34 +818,20 @@ public final class Parties implements Closeable {
     public void close() {
         leaveParty();
         eventFactory.dispose();
-        connection.removeAsyncStanzaListener(eventListener);
+        for (var notification : PartyNotification.values()) {
+            StanzaDispatcher.getInstanceFor(connection).unregister(notification.type(), eventListener);
+        }
     }
 
     /**
      * The XMPP event listener.
      */
-    private final class Listener implements StanzaListener {
+    private final class Listener implements StanzaDispatcher.Handler {
 
         @Override
-        public void processStanza(Stanza packet) {
-            final var message = (Message) packet;
-            // adapt the message to a JSON object.
-            final var object = gson.fromJson(message.getBody(), JsonObject.class);
-            if (object.has("interactions")) {
-                // we have an interaction type.
-                // TODO
-            } else {
-                // we have a regular message type, retrieve the notification.
-                final var notification = PartyNotification.of(object.getAsJsonPrimitive("type").getAsString());
-                // log if we have an unknown type.
-                if (notification == PartyNotification.UNKNOWN) {
-                    System.err.println("Received unknown notification party type, please report this.");
-                    System.err.println(object.toString());
-                    return;
-                }
-                handleNotification(notification, object);
-            }
-
+        public void handle(JsonObject object) {
+            // only registered for known notification types.
+            handleNotification(PartyNotification.of(object.getAsJsonPrimitive("type").getAsString()), object);
         }
 
         /**
@@ -20,6 +20,7 @@ import athena.party.resource.meta.PartyMeta;
 import athena.party.resource.playlist.PartyPlaylistData;
 import athena.types.Input;
 import athena.types.Platform;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.hooks.PostDeserialize;
 import athena.util.json.request.Request;
 import com.google.gson.annotations.SerializedName;
@@ -30,6 +31,7 @@ import java.util.List;
 /**
  * Represents a Fortnite party.
  */
+@StreamingAdapter
 public final class Party {
 
     /**
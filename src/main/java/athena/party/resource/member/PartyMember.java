@@ -8,6 +8,7 @@ import athena.party.resource.member.meta.PartyMemberMeta;
 import athena.party.resource.member.role.PartyRole;
 import athena.types.Input;
 import athena.types.Platform;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.request.Request;
 import com.google.gson.annotations.SerializedName;
 
@@ -17,6 +18,7 @@ import java.util.List;
 /**
  * Represents a party member.
  */
+@StreamingAdapter
 public final class PartyMember {
 
     /**
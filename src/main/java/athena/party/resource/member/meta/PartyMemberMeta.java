@@ -9,6 +9,7 @@ import athena.party.resource.member.meta.emote.FrontendEmote;
 import athena.party.resource.member.meta.hero.CampaignHero;
 import athena.types.Input;
 import athena.types.Platform;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.fortnite.annotation.FortniteObject;
 import com.google.gson.annotations.SerializedName;
 
@@ -17,6 +18,7 @@ import java.time.Instant;
 /**
  * Represents metadata of a party member.
  */
+@StreamingAdapter
 public final class PartyMemberMeta {
 
     /**
@@ -3,6 +3,7 @@ package athena.party.resource.meta;
 import athena.party.resource.assignment.SquadAssignment;
 import athena.party.resource.configuration.privacy.PartyPrivacy;
 import athena.party.resource.playlist.PartyPlaylistData;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.fortnite.annotation.FortniteArray;
 import athena.util.json.fortnite.annotation.FortniteObject;
 import com.google.gson.JsonArray;
@@ -15,6 +16,7 @@ import java.util.List;
 /**
  * Represents meta of a party.
  */
+@StreamingAdapter
 public final class PartyMeta {
 
     /**
@@ -1,6 +1,8 @@
 package athena.party.resource.notification.regular;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Represents a party notification.
@@ -59,9 +61,9 @@ public enum PartyNotification {
     UNKNOWN("UNKNOWN");
 
     /**
-     * List of all notifications.
+     * All notifications by type.
      */
-    private static final List<PartyNotification> VALUES = List.of(values());
+    private static final Map<String, PartyNotification> VALUES = Arrays.stream(values()).collect(Collectors.toUnmodifiableMap(notification -> notification.type, notification -> notification));
     /**
      * The type.
      */
@@ -71,6 +73,13 @@ public enum PartyNotification {
         this.type = type;
     }
 
+    /**
+     * @return the notification type.
+     */
+    public String type() {
+        return type;
+    }
+
     /**
      * Get the {@link PartyNotification} from the provided {@code type}
      *
@@ -78,7 +87,7 @@ public enum PartyNotification {
      * @return the party notification.
      */
     public static PartyNotification of(String type) {
-        return VALUES.stream().filter(partyNotification -> partyNotification.type.equals(type)).findAny().orElse(UNKNOWN);
+        return VALUES.getOrDefault(type, UNKNOWN);
     }
 
     }
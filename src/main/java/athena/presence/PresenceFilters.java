@@ -0,0 +1,87 @@
+package athena.presence;
+
+import athena.presence.resource.FortnitePresence;
+import athena.presence.resource.filter.AccountPresenceFilter;
+import athena.presence.resource.filter.PresenceFilter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Routes presences to {@link PresenceFilter}s.
+ * {@link AccountPresenceFilter}s are indexed by account ID, every other filter is checked for each presence.
+ */
+final class PresenceFilters {
+
+    /**
+     * Filters for each account ID.
+     */
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<PresenceFilter>> accounts = new ConcurrentHashMap<>();
+    /**
+     * Filters that are not scoped to accounts.
+     */
+    private final CopyOnWriteArrayList<PresenceFilter> global = new CopyOnWriteArrayList<>();
+
+    /**
+     * Add a filter
+     *
+     * @param filter the filter
+     */
+    void add(PresenceFilter filter) {
+        if (filter instanceof AccountPresenceFilter) {
+            for (var accountId : ((AccountPresenceFilter) filter).accountIds()) {
+                // add inside compute so a concurrent remove can't drop the list this filter is being added to.
+                accounts.compute(accountId, (ignored, list) -> {
+                    if (list == null) list = new CopyOnWriteArrayList<>();
+                    list.add(filter);
+                    return list;
+                });
+            }
+        } else {
+            global.add(filter);
+        }
+    }
+
+    /**
+     * Remove a filter
+     *
+     * @param filter the filter
+     */
+    void remove(PresenceFilter filter) {
+        if (filter instanceof AccountPresenceFilter) {
+            for (var accountId : ((AccountPresenceFilter) filter).accountIds()) {
+                accounts.computeIfPresent(accountId, (ignored, list) -> {
+                    list.remove(filter);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+        } else {
+            global.remove(filter);
+        }
+    }
+
+    /**
+     * Give {@code presence} to every filter that is active, ready and finds it relevant.
+     *
+     * @param accountId the account ID of who the presence came from.
+     * @param presence  the presence
+     */
+    void consume(String accountId, FortnitePresence presence) {
+        final var filters = accounts.get(accountId);
+        if (filters != null) filters.forEach(filter -> consume(filter, accountId, presence));
+        global.forEach(filter -> consume(filter, accountId, presence));
+    }
+
+    /**
+     * Remove all filters.
+     */
+    void clear() {
+        accounts.clear();
+        global.clear();
+    }
+
+    private static void consume(PresenceFilter filter, String accountId, FortnitePresence presence) {
+        if (filter.active() && filter.ready() && filter.isRelevant(accountId)) filter.consume(presence);
+    }
+
+}
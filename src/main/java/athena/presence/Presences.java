@@ -10,6 +10,7 @@ import athena.presence.resource.subscription.PresenceSubscription;
 import athena.presence.resource.subscription.SubscriptionSettings;
 import athena.presence.service.PresencePublicService;
 import athena.util.event.EventFactory;
+import athena.util.event.EventMetrics;
 import athena.util.request.Requests;
 import com.google.gson.Gson;
 import org.jivesoftware.smack.StanzaListener;
@@ -20,7 +21,9 @@ import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 
 import java.io.Closeable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * Provides easy access to the {@link athena.presence.service.PresencePublicService} and XMPP.
@@ -50,15 +53,15 @@ public final class Presences implements Closeable {
     /**
      * The event factory for presence events
      */
-    private final EventFactory factory = EventFactory.createAnnotatedFactory(PresenceEvent.class);
+    private final EventFactory factory;
     /**
      * COW list of listeners.
      */
     private final CopyOnWriteArrayList<FortnitePresenceListener> listeners = new CopyOnWriteArrayList<>();
     /**
-     * COW list of filters.
+     * Filters, indexed by account ID where possible.
      */
-    private final CopyOnWriteArrayList<PresenceFilter> filters = new CopyOnWriteArrayList<>();
+    private final PresenceFilters filters = new PresenceFilters();
 
     /**
      * The XMPP event listener.
@@ -66,6 +69,11 @@ public final class Presences implements Closeable {
     private final Listener eventListener = new Listener();
 
     public Presences(PresencePublicService service, XMPPTCPConnection connection, String localAccountId, Gson gson) {
+        this(service, connection, localAccountId, gson, null);
+    }
+
+    public Presences(PresencePublicService service, XMPPTCPConnection connection, String localAccountId, Gson gson, Executor eventExecutor) {
+        this.factory = EventFactory.createAnnotatedFactory(eventExecutor, PresenceEvent.class);
         this.service = service;
         this.connection = connection;
         this.localAccountId = localAccountId;
@@ -84,6 +92,16 @@ public final class Presences implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get the last online time of friends in your friends list.
+     *
+     * @return a {@link CompletableFuture} that will contain the {@link LastOnlineResponse}
+     */
+    public CompletableFuture<LastOnlineResponse> lastOnlineAsync() {
+        final var call = service.lastOnline(localAccountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Get the subscription settings
      *
@@ -95,6 +113,16 @@ public final class Presences implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get the subscription settings
+     *
+     * @return a {@link CompletableFuture} that will contain the {@link SubscriptionSettings}
+     */
+    public CompletableFuture<SubscriptionSettings> settingsAsync() {
+        final var call = service.subscriptionSettings(localAccountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Set the subscription settings.
      *
@@ -117,6 +145,17 @@ public final class Presences implements Closeable {
         Requests.executeVoidCall(call);
     }
 
+    /**
+     * Subscribe to an account ID.
+     *
+     * @param accountId the account ID.
+     * @return a {@link CompletableFuture} that is completed once the request is executed.
+     */
+    public CompletableFuture<Void> subscribeAsync(String accountId) {
+        final var call = service.subscribe(localAccountId, accountId);
+        return Requests.executeVoidCallAsync(call);
+    }
+
     /**
      * Unsubscribe from an account
      *
@@ -128,6 +167,17 @@ public final class Presences implements Closeable {
         Requests.executeVoidCall(call);
     }
 
+    /**
+     * Unsubscribe from an account
+     *
+     * @param accountId the account ID.
+     * @return a {@link CompletableFuture} that is completed once the request is executed.
+     */
+    public CompletableFuture<Void> unsubscribeAsync(String accountId) {
+        final var call = service.unsubscribe(localAccountId, accountId);
+        return Requests.executeVoidCallAsync(call);
+    }
+
     /**
      * Get the list of subscriptions
      *
@@ -139,6 +189,16 @@ public final class Presences implements Closeable {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Get the list of subscriptions
+     *
+     * @return a {@link CompletableFuture} that will contain a list of {@link PresenceSubscription}
+     */
+    public CompletableFuture<List<PresenceSubscription>> subscriptionsAsync() {
+        final var call = service.subscriptions(localAccountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Broadcast you are playing Fortnite.
      * Can only be done ever ~30 minutes.
@@ -152,6 +212,7 @@ public final class Presences implements Closeable {
 
     /**
      * Add a filter
+     * {@link athena.presence.resource.filter.AccountPresenceFilter}s only receive presences from their accounts.
      *
      * @param filter the filter
      */
@@ -195,6 +256,26 @@ public final class Presences implements Closeable {
         factory.registerEventListener(type);
     }
 
+    /**
+     * Register an event listener that is called on {@code executor}
+     *
+     * @param type     the class/type to register.
+     * @param executor the executor, {@code null} to call the listener on the XMPP thread.
+     */
+    public void registerEventListener(Object type, Executor executor) {
+        factory.registerEventListener(type, executor);
+    }
+
+    /**
+     * Get the dispatch metrics of an event listener.
+     *
+     * @param type the listener
+     * @return the {@link EventMetrics} or {@code null} if the listener is not registered.
+     */
+    public EventMetrics eventMetrics(Object type) {
+        return factory.metrics(type);
+    }
+
     /**
      * Unregister an event listener.
      *
@@ -221,17 +302,14 @@ public final class Presences implements Closeable {
         public void processStanza(Stanza packet) {
             final var presence = (Presence) packet;
             if (presence.getStatus() == null) return;
-            final var accountId = presence.getFrom().getLocalpartOrNull().asUnescapedString();
-            final var fortnitePresence = gson.fromJson(presence.getStatus(), FortnitePresence.class);
-
-            // ignore presences that aren't Fortnite
-            // ideally we want to ignore them before deserializing but whatever
-            if (fortnitePresence.productName() == null || !fortnitePresence.productName().equalsIgnoreCase("Fortnite")) return;
+            // presences that aren't Fortnite are ignored before anything is deserialized.
+            final var fortnitePresence = FortnitePresence.of(gson, presence.getFrom(), presence.getStatus());
+            if (fortnitePresence == null) return;
 
-            fortnitePresence.setFrom(presence.getFrom());
+            final var accountId = presence.getFrom().getLocalpartOrNull().asUnescapedString();
             factory.invoke(PresenceEvent.class, fortnitePresence);
             listeners.forEach(listener -> listener.presenceReceived(fortnitePresence));
-            filters.stream().filter(filter -> filter.active() && filter.ready() && filter.isRelevant(accountId)).forEach(filter -> filter.consume(fortnitePresence));
+            filters.consume(accountId, fortnitePresence);
         }
     }
 
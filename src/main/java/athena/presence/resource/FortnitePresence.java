@@ -1,18 +1,25 @@
 package athena.presence.resource;
 
 import athena.Athena;
-import athena.account.Accounts;
 import athena.account.resource.Account;
 import athena.friend.resource.summary.Profile;
-import athena.friend.service.FriendsPublicService;
+import athena.util.json.adapter.StreamingAdapter;
 import athena.util.json.request.Request;
 import athena.util.request.Requests;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.jxmpp.jid.Jid;
 
+import java.io.IOException;
+import java.io.StringReader;
+
 /**
  * Represents a Fortnite presence.
  */
+@StreamingAdapter
 public final class FortnitePresence {
 
     /**
@@ -49,10 +56,17 @@ public final class FortnitePresence {
     @SerializedName("bHasVoiceSupport")
     private boolean voiceSupport;
     /**
-     * Properties
+     * Properties, parsed from {@code json} the first time they are needed.
+     */
+    private transient Properties properties;
+    /**
+     * {@code true} once {@code properties} has been parsed.
+     */
+    private transient boolean propertiesParsed;
+    /**
+     * The raw presence JSON.
      */
-    @SerializedName("Properties")
-    private Properties properties;
+    private transient String json;
 
     /**
      * The account
@@ -65,22 +79,71 @@ public final class FortnitePresence {
     private Jid from;
 
     /**
-     * The accounts provider
+     * The athena instance, provides the accounts, friends service and local account.
      */
-    @Request(item = Accounts.class)
-    private Accounts accounts;
+    @Request(item = Athena.class)
+    private Athena athena;
 
     /**
-     * The friends service
+     * Read a presence, always used internally.
+     * Only the top level values are read, the properties are parsed when one of them is needed.
+     *
+     * @param gson the GSON instance
+     * @param from who its from
+     * @param json the presence JSON
+     * @return the presence or {@code null} if the presence is not from Fortnite.
      */
-    @Request(item = FriendsPublicService.class)
-    private FriendsPublicService service;
+    public static FortnitePresence of(Gson gson, Jid from, String json) {
+        if (!isFortnite(json)) return null;
+        final var presence = gson.fromJson(json, FortnitePresence.class);
+        presence.json = json;
+        presence.from = from;
+        return presence;
+    }
 
     /**
-     * The local account
-     */
-    @Request(item = Account.class, local = true)
-    private Account localAccount;
+     * Check the product name without reading the rest of the presence.
+     *
+     * @param json the presence JSON
+     * @return {@code true} if the product is Fortnite.
+     */
+    private static boolean isFortnite(String json) {
+        try (final var reader = new JsonReader(new StringReader(json))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) return false;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("ProductName")) {
+                    return reader.peek() == JsonToken.STRING && reader.nextString().equalsIgnoreCase("Fortnite");
+                }
+                reader.skipValue();
+            }
+            return false;
+        } catch (IOException | IllegalStateException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the properties or {@code null} if there are none.
+     */
+    private synchronized Properties properties() {
+        if (propertiesParsed) return properties;
+        propertiesParsed = true;
+        if (json == null) return null;
+        try (final var reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("Properties")) {
+                    properties = Athena.GSON.getAdapter(Properties.class).read(reader);
+                    break;
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException exception) {
+            throw new JsonParseException(exception);
+        }
+        return properties;
+    }
 
     /**
      * @return the JSON status
@@ -128,76 +191,77 @@ public final class FortnitePresence {
      * @return the avatar
      */
     public String avatar() {
-        return properties.profile().avatar;
+        return properties().profile().avatar;
     }
 
     /**
      * @return the avatar background
      */
     public String[] avatarBackground() {
-        return properties.profile().avatarBackground;
+        return properties().profile().avatarBackground;
     }
 
     /**
      * @return the playlist
      */
     public String playlist() {
-        return properties.playlist;
+        return properties().playlist;
     }
 
     /**
      * @return the amount of players alive.
      */
     public int eventPlayersAlive() {
-        return Integer.parseInt(properties.eventPlayersAlive);
+        return Integer.parseInt(properties().eventPlayersAlive);
     }
 
     /**
      * @return the party size.
      */
     public int eventPartySize() {
-        return Integer.parseInt(properties.eventPartySize);
+        return Integer.parseInt(properties().eventPartySize);
     }
 
     /**
      * @return the max party size.
      */
     public int eventMaxPartySize() {
-        return Integer.parseInt(properties.eventMaxPartySize);
+        return Integer.parseInt(properties().eventMaxPartySize);
     }
 
     /**
      * @return the session key.
      */
     public String sessionKey() {
-        return properties.sessionKey;
+        return properties().sessionKey;
     }
 
     /**
      * @return ""
      */
     public String state() {
-        return properties.gameplayStats.state;
+        return properties().gameplayStats.state;
     }
 
     /**
      * @return amount of kills
      */
     public int kills() {
-        return properties.gameplayStats.kills;
+        return properties().gameplayStats.kills;
     }
 
     /**
      * @return {@code true} if they fell to death.
      */
     public boolean fellToDeath() {
-        return properties.gameplayStats.fellToDeath;
+        return properties().gameplayStats.fellToDeath;
     }
 
     /**
      * @return the account ID of who owns the party, or {@code ""} if the party is private.
      */
     public String sourceId() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? "" : properties.partyJoinInfo.sourceId;
     }
 
@@ -205,6 +269,7 @@ public final class FortnitePresence {
      * @return the display name of who owns the party, or {@code ""} if the party is private.
      */
     public String sourceDisplayName() {
+        final var properties = properties();
         if (properties == null || properties.partyJoinInfo == null) return "";
         return properties.partyJoinInfo.isPrivate ? "" : properties.partyJoinInfo.sourceDisplayName;
     }
@@ -213,6 +278,7 @@ public final class FortnitePresence {
      * @return the party ID, or {@code ""} if the party is private.
      */
     public String partyId() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? "" : properties.partyJoinInfo.partyId;
     }
 
@@ -227,6 +293,7 @@ public final class FortnitePresence {
      * @return the build ID, or {@code ""} if the party is private.
      */
     public String buildId() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? "" : properties.partyJoinInfo.buildId;
     }
 
@@ -234,6 +301,7 @@ public final class FortnitePresence {
      * @return party flags, or {@code 0} if the party is private.
      */
     public int partyFlags() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? 0 : properties.partyJoinInfo.partyFlags;
     }
 
@@ -241,6 +309,7 @@ public final class FortnitePresence {
      * @return the not accepting reason, or {@code 0} if the party is private.
      */
     public int notAcceptingReason() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? 0 : properties.partyJoinInfo.notAcceptingReason;
     }
 
@@ -248,6 +317,7 @@ public final class FortnitePresence {
      * @return pc ?? , or {@code 0} if the party is private.
      */
     public int pc() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? 0 : properties.partyJoinInfo.pc;
     }
 
@@ -255,6 +325,7 @@ public final class FortnitePresence {
      * @return the party type ID, or {@code 0} if the party is private.
      */
     public long partyTypeId() {
+        final var properties = properties();
         return properties.partyJoinInfo.isPrivate ? 0 : properties.partyJoinInfo.partyTypeId;
     }
 
@@ -262,20 +333,21 @@ public final class FortnitePresence {
      * @return {@code true} if this party is private.
      */
     public boolean isPartyPrivate() {
-        return properties.partyJoinInfo.isPrivate;
+        return properties().partyJoinInfo.isPrivate;
     }
 
     /**
      * @return {@code true} if the presence is valid and they are playing fortnite.
      */
     public boolean isPlayingFortnite() {
-        return properties != null && !status.isEmpty() && playing;
+        return properties() != null && !status.isEmpty() && playing;
     }
 
     /**
      * @return {@code true} if they have a party.
      */
     public boolean hasParty() {
+        final var properties = properties();
         return properties.partyJoinInfo != null && !properties.partyJoinInfo.isPrivate;
     }
 
@@ -284,7 +356,7 @@ public final class FortnitePresence {
      */
     public Account account() {
         if (account == null) {
-            account = accounts.findByAccountId(from.getLocalpartOrThrow().asUnescapedString());
+            account = athena.account().findByAccountId(from.getLocalpartOrThrow().asUnescapedString());
         }
         return account;
     }
@@ -293,7 +365,7 @@ public final class FortnitePresence {
      * @return the profile for this presence sender.
      */
     public Profile profile() {
-        final var call = service.profile(localAccount.accountId(), from.getLocalpartOrNull().asUnescapedString(), true);
+        final var call = athena.friendsPublicService().profile(athena.localAccount().accountId(), from.getLocalpartOrNull().asUnescapedString(), true);
         return Requests.executeCall(call);
     }
 
@@ -0,0 +1,23 @@
+package athena.presence.resource.filter;
+
+import java.util.Set;
+
+/**
+ * A {@link PresenceFilter} that is only relevant for certain accounts.
+ * These filters are indexed by account ID so presences from other accounts never reach them.
+ */
+public interface AccountPresenceFilter extends PresenceFilter {
+
+    /**
+     * The account IDs are read once when the filter is added, they should not change while it is in use.
+     *
+     * @return the account IDs this filter wants presences from.
+     */
+    Set<String> accountIds();
+
+    @Override
+    default boolean isRelevant(String accountId) {
+        return accountIds().contains(accountId);
+    }
+
+}
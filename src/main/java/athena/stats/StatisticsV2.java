@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +48,17 @@ public final class StatisticsV2 {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Retrieves the statistics for the provided account.
+     *
+     * @param accountId the ID of the account
+     * @return a {@link CompletableFuture} that will contain the {@link UnfilteredStatistic} object
+     */
+    public CompletableFuture<UnfilteredStatistic> statsAsync(String accountId) {
+        final var call = service.stats(accountId);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Query specific stats for some accounts.
      *
@@ -58,6 +70,17 @@ public final class StatisticsV2 {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Query specific stats for some accounts.
+     *
+     * @param query the query
+     * @return a {@link CompletableFuture} that will contain each query result.
+     */
+    public CompletableFuture<List<IndividualQueryResponse>> queryAsync(StatisticsQuery query) {
+        final var call = service.query(query);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Query one statistic for one account.
      *
@@ -92,6 +115,17 @@ public final class StatisticsV2 {
         return Requests.executeCall(call);
     }
 
+    /**
+     * Retrieve the leaderboard for a specific statistic, ex: br_placetop1_keyboardmouse_m0_playlist_defaultsolo
+     *
+     * @param type the statistic type, ex: 'br_placetop1_keyboardmouse_m0_playlist_defaultsolo"
+     * @return a {@link CompletableFuture} that will contain the {@link LeaderboardResponse}
+     */
+    public CompletableFuture<LeaderboardResponse> leaderboardAsync(String type) {
+        final var call = service.leaderboard(type);
+        return Requests.executeCallAsync(call);
+    }
+
     /**
      * Retrieve the leaderboard for a specific statistic, ex: br_placetop1_keyboardmouse_m0_playlist_defaultsolo
      * This method converts each account ID to an account, which takes longer.
@@ -120,4 +154,33 @@ public final class StatisticsV2 {
         return map.entrySet().stream().sorted((Map.Entry.<Account, Integer>comparingByValue().reversed())).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new));
     }
 
+    /**
+     * Retrieve the leaderboard for a specific statistic, ex: br_placetop1_keyboardmouse_m0_playlist_defaultsolo
+     * Each batch of 100 account IDs is looked up concurrently.
+     *
+     * @param type the statistic type, ex: 'br_placetop1_keyboardmouse_m0_playlist_defaultsolo"
+     * @return a {@link CompletableFuture} that will contain a {@link LinkedHashMap} (that is sorted) of entries by account and their value.
+     */
+    public CompletableFuture<Map<Account, Integer>> leaderboardWithAccountsAsync(String type) {
+        return leaderboardAsync(type).thenCompose(response -> {
+            final var entriesMap = response.mapOfEntries();
+            final var partitioned = Lists.partition(new ArrayList<>(entriesMap.keySet()), 100);
+
+            // fire each batch at once.
+            final var futures = partitioned
+                    .stream()
+                    .map(list -> Requests.executeCallAsync(accountPublicService.findManyByAccountId(list.toArray(String[]::new))))
+                    .collect(Collectors.toList());
+
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> futures
+                    .stream()
+                    .flatMap(future -> future.join().stream())
+                    .collect(Collectors.toMap(account -> account, account -> entriesMap.get(account.accountId()), (e1, e2) -> e1))
+                    .entrySet()
+                    .stream()
+                    .sorted((Map.Entry.<Account, Integer>comparingByValue().reversed()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new)));
+        });
+    }
+
 }
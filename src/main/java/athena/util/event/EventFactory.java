@@ -1,9 +1,13 @@
 package athena.util.event;
 
 import java.lang.annotation.Annotation;
+import java.util.concurrent.Executor;
 
 /**
  * Used to dispatch listener/annotated type events.
+ * <p>
+ * Listeners are called on the thread that invokes the event unless they were registered with an executor,
+ * then events are queued for each listener and handled in order on that executor so a slow listener does not hold up the others.
  */
 public interface EventFactory {
 
@@ -15,7 +19,19 @@ public interface EventFactory {
      */
     @SafeVarargs
     static EventFactory createAnnotatedFactory(Class<? extends Annotation>... annotations) {
-        return new EventFactoryImpl(annotations);
+        return new EventFactoryImpl(null, annotations);
+    }
+
+    /**
+     * Creates a new annotated factory that dispatches asynchronously.
+     *
+     * @param executor    the executor listeners use when they are registered without one, {@code null} to call them on the invoking thread.
+     * @param annotations the set of annotations that are valid.
+     * @return a new {@link EventFactory}
+     */
+    @SafeVarargs
+    static EventFactory createAnnotatedFactory(Executor executor, Class<? extends Annotation>... annotations) {
+        return new EventFactoryImpl(executor, annotations);
     }
 
     /**
@@ -25,6 +41,15 @@ public interface EventFactory {
      */
     void registerEventListener(Object eventListener);
 
+    /**
+     * Register an event listener that handles its events on {@code executor}
+     *
+     * @param eventListener the class/type to register.
+     * @param executor      the executor, for example {@link athena.util.thread.ThreadExecutors#newVirtualThreadPerTaskExecutor()}, a shared pool or {@code Runnable::run}
+     *                      {@code null} to call the listener on the invoking thread.
+     */
+    void registerEventListener(Object eventListener, Executor executor);
+
     /**
      * Unregister an event listener.
      *
@@ -45,6 +70,19 @@ public interface EventFactory {
      */
     void invoke(Class<? extends Annotation> annotation, Object... arguments);
 
+    /**
+     * Get the dispatch metrics of a listener.
+     *
+     * @param eventListener the listener
+     * @return the {@link EventMetrics} or {@code null} if the listener is not registered.
+     */
+    EventMetrics metrics(Object eventListener);
+
+    /**
+     * @return the amount of events waiting to be handled by all listeners.
+     */
+    int queueDepth();
+
     /**
      * Dispose of this factory.
      */
@@ -1,106 +1,298 @@
 package athena.util.event;
 
 import athena.util.reflection.MethodInspector;
+import com.google.common.flogger.FluentLogger;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Implementation of {@link EventFactory}
+ * <p>
+ * The methods each listener class has for an annotation and argument types are compiled once into an array of {@link EventInvoker},
+ * dispatching an event is then one lookup per listener and a direct call for each method.
+ * Listeners with an executor get their own queue, so exceptions and slow handlers only affect that listener.
  */
 final class EventFactoryImpl implements EventFactory {
 
+    /**
+     * The LOGGER.
+     */
+    private static final FluentLogger LOGGER = FluentLogger.forEnclosingClass();
+
     /**
      * Array of annotations
      */
     private final Class<? extends Annotation>[] annotations;
 
+    /**
+     * The executor listeners registered without one use, {@code null} for the invoking thread.
+     */
+    private final Executor executor;
+
     /**
      * Subscribers
      */
-    private final ConcurrentHashMap<Object, EventSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Dispatch tables for each listener class, kept in a {@link ClassValue} like {@link MethodInspector}
+     * so a table does not keep its class (or class loader) alive after every listener of it is gone.
+     */
+    private final ClassValue<DispatchTable> tables = new ClassValue<>() {
+        @Override
+        protected DispatchTable computeValue(Class<?> type) {
+            return new DispatchTable(type, annotations);
+        }
+    };
 
     @SafeVarargs
-    EventFactoryImpl(Class<? extends Annotation>... annotations) {
+    EventFactoryImpl(Executor executor, Class<? extends Annotation>... annotations) {
+        this.executor = executor;
         this.annotations = annotations;
     }
 
     @Override
     public void registerEventListener(Object eventListener) {
-        final var clazz = eventListener.getClass();
-        subscribers.put(eventListener, new EventSubscriber(clazz, annotations));
+        registerEventListener(eventListener, executor);
+    }
+
+    @Override
+    public void registerEventListener(Object eventListener, Executor executor) {
+        final var table = tables.get(eventListener.getClass());
+        subscribers.put(eventListener, new Subscriber(eventListener, table, executor));
     }
 
     @Override
     public void unregisterEventListener(Object eventListener) {
-        final var subscriber = subscribers.get(eventListener);
-        subscriber.inspector.removeClass(subscriber.clazz);
-        subscribers.remove(eventListener, subscriber);
+        subscribers.remove(eventListener);
     }
 
     @Override
     public void unregisterAll() {
-        subscribers.values().forEach(eventSubscriber -> eventSubscriber.inspector.removeClass(eventSubscriber.clazz));
         subscribers.clear();
     }
 
     @Override
     public void invoke(Class<? extends Annotation> annotation, Object... arguments) {
-        for (final var entry : subscribers.entrySet()) {
-            final var subscriber = entry.getValue();
-            invoke(subscriber.clazz, annotation, subscriber.inspector, entry.getKey(), arguments);
-        }
-    }
+        if (subscribers.isEmpty()) return;
 
-    /**
-     * Invoke a method.
-     *
-     * @param clazz      the class
-     * @param annotation the annotation
-     * @param inspector  the inspector
-     * @param type       the original object
-     * @param arguments  arguments
-     */
-    private void invoke(Class<?> clazz, Class<? extends Annotation> annotation, MethodInspector inspector, Object type, Object... arguments) {
         final var classes = new Class<?>[arguments.length];
         for (int i = 0; i < arguments.length; i++) {
             classes[i] = arguments[i].getClass();
         }
 
-        final var methods = arguments.length == 0 ? inspector.getMethods(clazz, annotation) : inspector.getMethodsWithParameters(clazz, annotation, classes);
-        for (final var method : methods) {
-            try {
-                method.invoke(type, arguments);
-            } catch (IllegalAccessException | InvocationTargetException exception) {
-                exception.printStackTrace();
-            }
+        final var signature = new Signature(annotation, classes);
+        for (final var subscriber : subscribers.values()) {
+            final var invokers = subscriber.table.invokers(signature);
+            if (invokers.length != 0) subscriber.dispatch(invokers, annotation, arguments);
         }
     }
 
+    @Override
+    public EventMetrics metrics(Object eventListener) {
+        final var subscriber = subscribers.get(eventListener);
+        return subscriber == null ? null : subscriber.metrics;
+    }
+
+    @Override
+    public int queueDepth() {
+        var depth = 0;
+        for (final var subscriber : subscribers.values()) depth += subscriber.metrics.queueDepth();
+        return depth;
+    }
+
     @Override
     public void dispose() {
+        subscribers.keySet().forEach(listener -> tables.remove(listener.getClass()));
         unregisterAll();
     }
 
     /**
-     * Represents an event subscriber from {@code registerEventListener}
+     * A registered listener.
      */
-    private static final class EventSubscriber {
+    private static final class Subscriber {
+
+        /**
+         * The listener and the table of its class.
+         */
+        private final Object listener;
+        private final DispatchTable table;
+        /**
+         * The executor or {@code null} to handle events on the invoking thread.
+         */
+        private final Executor executor;
+        private final EventMetrics metrics = new EventMetrics();
+
+        /**
+         * Events waiting to be handled, only used with an executor.
+         */
+        private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+        private Subscriber(Object listener, DispatchTable table, Executor executor) {
+            this.listener = listener;
+            this.table = table;
+            this.executor = executor;
+        }
 
         /**
-         * The method inspector.
+         * Handle an event now or queue it.
+         *
+         * @param invokers   the invokers
+         * @param annotation the annotation
+         * @param arguments  the arguments
          */
-        private final MethodInspector inspector = new MethodInspector();
+        private void dispatch(EventInvoker[] invokers, Class<? extends Annotation> annotation, Object[] arguments) {
+            if (executor == null) {
+                handle(invokers, annotation, arguments);
+                return;
+            }
+
+            queue.add(() -> handle(invokers, annotation, arguments));
+            // only one drain runs at a time so events are handled in order.
+            if (metrics.queued.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException exception) {
+                    LOGGER.atWarning().withCause(exception).log("Event executor for " + listener.getClass().getName() + " rejected the event, dropping queued events.");
+                    queue.clear();
+                    metrics.queued.set(0);
+                }
+            }
+        }
+
         /**
-         * The class that belongs to this subscriber.
+         * Handle queued events until the queue is empty.
+         */
+        private void drain() {
+            do {
+                final var task = queue.poll();
+                if (task != null) task.run();
+            } while (metrics.queued.decrementAndGet() != 0);
+        }
+
+        /**
+         * Call each invoker.
+         *
+         * @param invokers   the invokers
+         * @param annotation the annotation
+         * @param arguments  the arguments
+         */
+        private void handle(EventInvoker[] invokers, Class<? extends Annotation> annotation, Object[] arguments) {
+            for (final var invoker : invokers) {
+                final var start = System.nanoTime();
+                var failed = false;
+                try {
+                    invoker.invoke(listener, arguments);
+                } catch (Throwable throwable) {
+                    failed = true;
+                    LOGGER.atWarning().withCause(throwable).log("Event listener " + listener.getClass().getName() + " failed to handle " + annotation.getSimpleName());
+                }
+                metrics.record(System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    /**
+     * The compiled invokers of one listener class.
+     */
+    private static final class DispatchTable {
+
+        /**
+         * Empty table entry.
+         */
+        private static final EventInvoker[] NONE = new EventInvoker[0];
+
+        /**
+         * The class that belongs to this table.
          */
         private final Class<?> clazz;
 
-        private EventSubscriber(Class<?> clazz, Class<? extends Annotation>[] annotations) {
+        /**
+         * Invokers for each signature and each method.
+         */
+        private final ConcurrentHashMap<Signature, EventInvoker[]> invokers = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Method, EventInvoker> compiled = new ConcurrentHashMap<>();
+
+        private DispatchTable(Class<?> clazz, Class<? extends Annotation>[] annotations) {
             this.clazz = clazz;
 
-            inspector.cacheAnnotatedMethodsOnce(clazz, annotations);
+            MethodInspector.cacheAnnotatedMethodsOnce(clazz, annotations);
+        }
+
+        /**
+         * @param signature the signature
+         * @return the invokers for {@code signature}
+         */
+        private EventInvoker[] invokers(Signature signature) {
+            final var invokers = this.invokers.get(signature);
+            return invokers == null ? this.invokers.computeIfAbsent(signature, this::compile) : invokers;
+        }
+
+        /**
+         * Compile the invokers for {@code signature}
+         *
+         * @param signature the signature
+         * @return the invokers
+         */
+        private EventInvoker[] compile(Signature signature) {
+            final var methods = signature.types.length == 0
+                    ? MethodInspector.getMethods(clazz, signature.annotation)
+                    : MethodInspector.getMethodsWithParameters(clazz, signature.annotation, signature.types);
+            if (methods.isEmpty()) return NONE;
+
+            return methods.stream()
+                    .filter(method -> method.getParameterCount() == signature.types.length)
+                    .map(method -> compiled.computeIfAbsent(method, this::compile))
+                    .toArray(EventInvoker[]::new);
+        }
+
+        /**
+         * Compile an invoker for {@code method}
+         *
+         * @param method the method
+         * @return the invoker
+         */
+        private EventInvoker compile(Method method) {
+            try {
+                return EventInvoker.of(method);
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException("Cannot access event method " + method, exception);
+            }
+        }
+    }
+
+    /**
+     * An annotation and the argument types of an event.
+     */
+    private static final class Signature {
+
+        private final Class<? extends Annotation> annotation;
+        private final Class<?>[] types;
+        private final int hash;
+
+        private Signature(Class<? extends Annotation> annotation, Class<?>[] types) {
+            this.annotation = annotation;
+            this.types = types;
+            this.hash = 31 * annotation.hashCode() + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Signature)) return false;
+            final var signature = (Signature) o;
+            return annotation == signature.annotation && Arrays.equals(types, signature.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 
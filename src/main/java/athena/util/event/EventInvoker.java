@@ -0,0 +1,80 @@
+package athena.util.event;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Calls one listener method.
+ * Methods with zero or one parameter are compiled with {@link LambdaMetafactory} so the call is as fast as a direct call,
+ * if that is not possible (or the method has more parameters) a {@link MethodHandle} is used instead.
+ */
+@FunctionalInterface
+interface EventInvoker {
+
+    /**
+     * The type of the spread method handle, {@code void (Object, Object[])}
+     */
+    MethodType SPREAD_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+    /**
+     * Invoke the method.
+     *
+     * @param listener  the listener
+     * @param arguments the arguments
+     * @throws Throwable anything the method throws.
+     */
+    void invoke(Object listener, Object[] arguments) throws Throwable;
+
+    /**
+     * Compile an invoker for {@code method}
+     *
+     * @param method the method, must be accessible.
+     * @return a new {@link EventInvoker}
+     * @throws IllegalAccessException if the method could not be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    static EventInvoker of(Method method) throws IllegalAccessException {
+        final var count = method.getParameterCount();
+        final var isStatic = Modifier.isStatic(method.getModifiers());
+
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        } catch (IllegalAccessException exception) {
+            lookup = null;
+        }
+
+        final var handle = lookup == null ? MethodHandles.lookup().unreflect(method) : lookup.unreflect(method);
+        if (lookup != null && !isStatic && count <= 1) {
+            try {
+                final var instantiated = handle.type().wrap().changeReturnType(void.class);
+                if (count == 0) {
+                    final var site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(Consumer.class),
+                            MethodType.methodType(void.class, Object.class), handle, instantiated);
+                    final var consumer = (Consumer<Object>) site.getTarget().invoke();
+                    return (listener, arguments) -> consumer.accept(listener);
+                } else {
+                    final var site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                            MethodType.methodType(void.class, Object.class, Object.class), handle, instantiated);
+                    final var consumer = (BiConsumer<Object, Object>) site.getTarget().invoke();
+                    return (listener, arguments) -> consumer.accept(listener, arguments[0]);
+                }
+            } catch (Throwable ignored) {
+                // fall back to the method handle.
+            }
+        }
+
+        final var receiver = isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+        final var spread = receiver.asType(receiver.type().generic().changeReturnType(void.class)).asSpreader(Object[].class, count).asType(SPREAD_TYPE);
+        return (listener, arguments) -> {
+            spread.invokeExact(listener, arguments);
+        };
+    }
+
+}
@@ -0,0 +1,79 @@
+package athena.util.event;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch metrics of one event listener.
+ */
+public final class EventMetrics {
+
+    /**
+     * Events waiting to be handled.
+     */
+    final AtomicInteger queued = new AtomicInteger();
+    /**
+     * Handled events and handlers that failed.
+     */
+    private final LongAdder dispatched = new LongAdder(), failures = new LongAdder();
+    /**
+     * Total and max time spent in handlers.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    EventMetrics() {
+    }
+
+    /**
+     * Record one handler call.
+     *
+     * @param nanos  how long it took
+     * @param failed {@code true} if the handler threw.
+     */
+    void record(long nanos, boolean failed) {
+        dispatched.increment();
+        if (failed) failures.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return the amount of events waiting to be handled.
+     */
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return the amount of handler calls.
+     */
+    public long dispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return the amount of handler calls that threw an exception.
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the average time spent in a handler.
+     */
+    public Duration averageLatency() {
+        final var dispatched = this.dispatched.sum();
+        return dispatched == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / dispatched);
+    }
+
+    /**
+     * @return the longest time spent in a handler.
+     */
+    public Duration maxLatency() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+}
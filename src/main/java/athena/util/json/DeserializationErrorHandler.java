@@ -0,0 +1,18 @@
+package athena.util.json;
+
+/**
+ * Receives errors that happen while finishing a deserialized value, for example a failing {@link athena.util.json.hooks.PostDeserialize} hook.
+ * The value is still returned to the caller after the handler runs.
+ */
+@FunctionalInterface
+public interface DeserializationErrorHandler {
+
+    /**
+     * Handle an error.
+     *
+     * @param value the deserialized value
+     * @param cause the error
+     */
+    void handle(Object value, Throwable cause);
+
+}
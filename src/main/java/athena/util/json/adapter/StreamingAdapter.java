@@ -0,0 +1,18 @@
+package athena.util.json.adapter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a streaming type adapter for this type at compile time, see the {@code processor} project.
+ * <p>
+ * Fields are picked like the GSON instance in {@code AthenaImpl}: static, transient, protected and {@link athena.util.json.request.Request} fields are skipped.
+ * The adapter honours {@link com.google.gson.annotations.SerializedName}, the fortnite annotations, {@link athena.util.json.hooks.PostDeserialize} and
+ * {@link athena.util.json.request.Request} and is registered through the generated {@code StreamingTypeAdapterFactory}.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface StreamingAdapter {
+}
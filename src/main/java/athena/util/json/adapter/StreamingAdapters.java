@@ -0,0 +1,210 @@
+package athena.util.json.adapter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Used by the adapters generated for {@link StreamingAdapter} types.
+ * Handles are resolved once per type, reads and writes behave like the GSON adapters they replace.
+ */
+public final class StreamingAdapters {
+
+    /**
+     * The type constructors are adapted to, {@code Object ()}
+     */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /**
+     * The type hooks are adapted to, {@code void (Object)}
+     */
+    private static final MethodType HOOK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private StreamingAdapters() {
+    }
+
+    /**
+     * Create a lookup with private access to {@code type}
+     *
+     * @param type the type
+     * @return the lookup
+     */
+    public static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access " + type, exception);
+        }
+    }
+
+    /**
+     * Find the no-args constructor of {@code type}
+     *
+     * @param lookup the lookup
+     * @param type   the type
+     * @return the constructor, adapted to {@code Object ()}
+     */
+    public static MethodHandle constructor(MethodHandles.Lookup lookup, Class<?> type) {
+        try {
+            return lookup.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access the constructor of " + type, exception);
+        }
+    }
+
+    /**
+     * Find a field of {@code type}
+     *
+     * @param lookup the lookup
+     * @param type   the type
+     * @param name   the field name
+     * @return the field
+     */
+    public static VarHandle field(MethodHandles.Lookup lookup, Class<?> type, String name) {
+        try {
+            return lookup.unreflectVarHandle(type.getDeclaredField(name));
+        } catch (NoSuchFieldException | IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access field " + name + " of " + type, exception);
+        }
+    }
+
+    /**
+     * Find a {@link athena.util.json.hooks.PostDeserialize} hook of {@code type}
+     *
+     * @param lookup the lookup
+     * @param type   the type
+     * @param name   the method name
+     * @return the hook, adapted to {@code void (Object)}
+     */
+    public static MethodHandle hook(MethodHandles.Lookup lookup, Class<?> type, String name) {
+        try {
+            return lookup.findVirtual(type, name, MethodType.methodType(void.class)).asType(HOOK_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access hook " + name + " of " + type, exception);
+        }
+    }
+
+    /**
+     * The declared type of a field, for types the generated adapter cannot name.
+     *
+     * @param type the type
+     * @param name the field name
+     * @return the type token
+     */
+    @SuppressWarnings("unchecked")
+    public static TypeToken<Object> fieldType(Class<?> type, String name) {
+        try {
+            return (TypeToken<Object>) TypeToken.get(type.getDeclaredField(name).getGenericType());
+        } catch (NoSuchFieldException exception) {
+            throw new IllegalStateException("Cannot find field " + name + " of " + type, exception);
+        }
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param constructor the constructor from {@link #constructor(MethodHandles.Lookup, Class)}
+     * @return the instance
+     */
+    public static Object instantiate(MethodHandle constructor) {
+        try {
+            return constructor.invokeExact();
+        } catch (Error | RuntimeException exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new JsonParseException("Failed to invoke " + constructor + " with no args", throwable);
+        }
+    }
+
+    /**
+     * Read a string, booleans are read as their string value.
+     *
+     * @param in the reader
+     * @return the value or {@code null}
+     * @throws IOException if an IO error occurred.
+     */
+    public static String readString(JsonReader in) throws IOException {
+        final var token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return token == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString();
+    }
+
+    /**
+     * Read an int, the value must not be null.
+     *
+     * @param in the reader
+     * @return the value
+     * @throws IOException if an IO error occurred.
+     */
+    public static int readInt(JsonReader in) throws IOException {
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException exception) {
+            throw new JsonSyntaxException(exception);
+        }
+    }
+
+    /**
+     * Read a long, the value must not be null.
+     *
+     * @param in the reader
+     * @return the value
+     * @throws IOException if an IO error occurred.
+     */
+    public static long readLong(JsonReader in) throws IOException {
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException exception) {
+            throw new JsonSyntaxException(exception);
+        }
+    }
+
+    /**
+     * Read a boolean, strings are parsed. The value must not be null.
+     *
+     * @param in the reader
+     * @return the value
+     * @throws IOException if an IO error occurred.
+     */
+    public static boolean readBoolean(JsonReader in) throws IOException {
+        return in.peek() == JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean();
+    }
+
+    /**
+     * Write a value of a field that is not declared with a final type.
+     * Like GSON the adapter of the runtime type is preferred unless it is reflective.
+     *
+     * @param gson         the GSON instance
+     * @param out          the writer
+     * @param declared     the adapter of the declared type
+     * @param declaredType the declared type
+     * @param value        the value
+     * @param <T>          TYPE
+     * @throws IOException if an IO error occurred.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void write(Gson gson, JsonWriter out, TypeAdapter<T> declared, Class<T> declaredType, T value) throws IOException {
+        var adapter = declared;
+        if (value != null && value.getClass() != declaredType) {
+            final var runtime = (TypeAdapter<T>) gson.getAdapter(value.getClass());
+            if (!(runtime instanceof ReflectiveTypeAdapterFactory.Adapter) || declared instanceof ReflectiveTypeAdapterFactory.Adapter) adapter = runtime;
+        }
+        adapter.write(out, value);
+    }
+
+}
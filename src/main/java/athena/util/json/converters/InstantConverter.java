@@ -1,28 +1,97 @@
 package athena.util.json.converters;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Used to serialize and de-serialize {@link Instant}
+ * Epic always sends UTC times like {@code 2020-01-01T12:30:45.123Z}, those are parsed by hand and everything else goes through {@link Instant#parse(CharSequence)}
  */
-public final class InstantConverter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+public final class InstantConverter extends TypeAdapter<Instant> {
 
     /**
-     * The formatter for parsing dates.
+     * The formatter for writing dates.
      */
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
     @Override
-    public Instant deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        return Instant.parse(json.getAsString());
+    public Instant read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final var value = in.nextString();
+        try {
+            final var instant = parseUtc(value);
+            return instant == null ? Instant.parse(value) : instant;
+        } catch (DateTimeException exception) {
+            throw new JsonParseException("Invalid time " + value, exception);
+        }
     }
 
     @Override
-    public JsonElement serialize(Instant src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(FORMATTER.format(src));
+    public void write(JsonWriter out, Instant value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(FORMATTER.format(value));
+        }
+    }
+
+    /**
+     * Parse {@code yyyy-MM-ddTHH:mm:ss[.fraction]Z}
+     *
+     * @param value the value
+     * @return the instant or {@code null} if {@code value} is in another format.
+     */
+    static Instant parseUtc(String value) {
+        final var length = value.length();
+        if (length < 20 || length > 30 || value.charAt(length - 1) != 'Z') return null;
+        if (value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') return null;
+
+        final var year = digits(value, 0, 4);
+        final var month = digits(value, 5, 7);
+        final var day = digits(value, 8, 10);
+        final var hour = digits(value, 11, 13);
+        final var minute = digits(value, 14, 16);
+        final var second = digits(value, 17, 19);
+        if ((year | month | day | hour | minute | second) < 0 || hour > 23 || minute > 59 || second > 59) return null;
+
+        var nanos = 0;
+        if (length > 20) {
+            // the fraction, between 1 and 9 digits.
+            if (value.charAt(19) != '.' || length == 21) return null;
+            final var fraction = digits(value, 20, length - 1);
+            if (fraction < 0) return null;
+            nanos = fraction;
+            for (int i = length - 1 - 20; i < 9; i++) nanos *= 10;
+        } else if (value.charAt(19) != 'Z') {
+            return null;
+        }
+
+        final var epochDay = LocalDate.of(year, month, day).toEpochDay();
+        return Instant.ofEpochSecond(epochDay * 86400 + hour * 3600 + minute * 60 + second, nanos);
+    }
+
+    /**
+     * @return the number between {@code start} and {@code end} or {@code -1} if there is a character that is not a digit.
+     */
+    private static int digits(String value, int start, int end) {
+        var result = 0;
+        for (int i = start; i < end; i++) {
+            final var c = value.charAt(i) - '0';
+            if (c < 0 || c > 9) return -1;
+            result = result * 10 + c;
+        }
+        return result;
     }
 }
@@ -0,0 +1,45 @@
+package athena.util.json.converters;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A bounded cache that hands out one shared value for each key.
+ * Once the cache is full it is cleared, values that repeat will be cached again quickly.
+ *
+ * @param <V> the type of value
+ */
+final class InternCache<V> {
+
+    /**
+     * The cached values.
+     */
+    private final ConcurrentHashMap<String, V> values = new ConcurrentHashMap<>();
+    /**
+     * The maximum amount of cached values.
+     */
+    private final int maximumSize;
+
+    InternCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get the value for {@code key}, computing it if its not cached.
+     *
+     * @param key    the key
+     * @param loader computes the value, may return {@code null} which is not cached.
+     * @return the value
+     */
+    V get(String key, Function<String, V> loader) {
+        final var cached = values.get(key);
+        if (cached != null) return cached;
+
+        final var value = loader.apply(key);
+        if (value == null) return null;
+        if (values.size() >= maximumSize) values.clear();
+        final var existing = values.putIfAbsent(key, value);
+        return existing == null ? value : existing;
+    }
+
+}
@@ -1,23 +1,40 @@
 package athena.util.json.converters;
 
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import org.jxmpp.jid.Jid;
 import org.jxmpp.jid.impl.JidCreate;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
 /**
  * Converts the type {@link org.jxmpp.jid.Jid}
+ * The same JIDs show up in almost every payload so parsed JIDs are shared.
  */
-public final class JidConverter implements JsonSerializer<Jid>, JsonDeserializer<Jid> {
+public final class JidConverter extends TypeAdapter<Jid> {
+
+    /**
+     * Parsed JIDs.
+     */
+    private static final InternCache<Jid> CACHE = new InternCache<>(4096);
 
     @Override
-    public Jid deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        return JidCreate.fromOrNull(json.getAsJsonPrimitive().getAsString());
+    public Jid read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return CACHE.get(in.nextString(), JidCreate::fromOrNull);
     }
 
     @Override
-    public JsonElement serialize(Jid src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(src.asUnescapedString());
+    public void write(JsonWriter out, Jid value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.asUnescapedString());
+        }
     }
 }
@@ -24,7 +24,9 @@ public final class LastOnlineResponseConverter implements JsonDeserializer<LastO
         object.keySet().forEach(key -> {
             final var array = object.getAsJsonArray(key);
             final var lastOnline = array.get(0).getAsJsonObject().get("last_online");
-            final var time = Instant.parse(lastOnline.getAsString());
+            final var value = lastOnline.getAsString();
+            final var parsed = InstantConverter.parseUtc(value);
+            final var time = parsed == null ? Instant.parse(value) : parsed;
             map.put(key, time);
         });
         return new LastOnlineResponse(map);
@@ -1,22 +1,38 @@
 package athena.util.json.converters;
 
 import athena.types.Platform;
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
 /**
  * Converts the type {@link Platform}
  */
-public final class PlatformConverter implements JsonSerializer<Platform>, JsonDeserializer<Platform> {
+public final class PlatformConverter extends TypeAdapter<Platform> {
+
+    /**
+     * Platform names as they appear in payloads, there are only a few.
+     */
+    private static final InternCache<Platform> CACHE = new InternCache<>(256);
 
     @Override
-    public Platform deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        return Platform.typeOf(json.getAsJsonPrimitive().getAsString());
+    public Platform read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return CACHE.get(in.nextString(), Platform::typeOf);
     }
 
     @Override
-    public JsonElement serialize(Platform src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(src.primaryName());
+    public void write(JsonWriter out, Platform value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.primaryName());
+        }
     }
 }
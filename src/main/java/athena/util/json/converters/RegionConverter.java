@@ -1,22 +1,33 @@
 package athena.util.json.converters;
 
 import athena.types.Region;
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
 /**
  * Converts the type {@link athena.types.Region}
  */
-public final class RegionConverter implements JsonSerializer<Region>, JsonDeserializer<Region> {
+public final class RegionConverter extends TypeAdapter<Region> {
 
     @Override
-    public Region deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        return Region.valueOf(json.getAsJsonPrimitive().getAsString());
+    public Region read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return Region.valueOf(in.nextString());
     }
 
     @Override
-    public JsonElement serialize(Region src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(src.name());
+    public void write(JsonWriter out, Region value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.name());
+        }
     }
 }
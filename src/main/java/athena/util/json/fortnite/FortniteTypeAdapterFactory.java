@@ -5,9 +5,12 @@ import athena.util.json.fortnite.annotation.FortniteObject;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -19,6 +22,16 @@ import java.util.Map;
  */
 public final class FortniteTypeAdapterFactory implements TypeAdapterFactory {
 
+    /**
+     * Buffers larger than this are not kept for reuse.
+     */
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * A buffer for each thread used to write wrapped values.
+     */
+    private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
+
     /**
      * A list of all type fields by the annotations {@link FortniteArray} and {@link FortniteObject}
      */
@@ -69,66 +82,122 @@ public final class FortniteTypeAdapterFactory implements TypeAdapterFactory {
 
             @Override
             public void write(JsonWriter out, R value) throws IOException {
-                // we have no value so pass this onto the original delegate adapter.
-                if (value == null) {
-                    fieldTypeAdapter.write(out, null);
-                    return;
-                }
-
-                if (field.arrayType == null) {
-                    // we are writing an object.
-                    final var object = new JsonObject();
-                    object.add(field.wrappedValue, fieldTypeAdapter.toJsonTree(value));
-                    out.value(object.toString());
-                } else {
-
-                    // find the adapter to use.
-                    // if we are writing a list value then grab the delegate adapter for that.
-                    // otherwise, use the field type adapter.
-                    final var adapterToUse = (value instanceof ArrayList) ?
-                            (TypeAdapter<R>) gson.getDelegateAdapter(FortniteTypeAdapterFactory.this, TypeToken.get(value.getClass()))
-                            : fieldTypeAdapter;
-                    final var object = new JsonObject();
-                    if (field.isConstant) {
-                        // WORK-AROUND:
-                        // Since we have a constant value (JsonArray)
-                        // just write it instead of deserializing with GSON.
-                        object.add(field.wrappedValue, new JsonArray());
-                    } else {
-                        // otherwise.
-                        object.add(field.wrappedValue, adapterToUse.toJsonTree(value));
-                    }
-                    out.value(object.toString());
-                }
+                // find the adapter to use.
+                // if we are writing a list value then grab the delegate adapter for that.
+                // otherwise, use the field type adapter.
+                final var adapterToUse = (field.arrayType != null && value instanceof ArrayList) ?
+                        (TypeAdapter<R>) gson.getDelegateAdapter(FortniteTypeAdapterFactory.this, TypeToken.get(value.getClass()))
+                        : fieldTypeAdapter;
+                writeWrapped(out, field.wrappedValue, adapterToUse, value, field.isConstant);
             }
 
             @Override
             public R read(JsonReader in) throws IOException {
-                // first parse the json string to an object.
-                final var next = in.nextString();
-                final var asObjectWrapped = gson.fromJson(next, JsonObject.class);
-                // next get the wrapped element as provided from the annotation.
-                final var element = asObjectWrapped.get(field.wrappedValue);
-
-                // if we have a JsonObject just read normally.
-                if (element.isJsonObject()) return fieldTypeAdapter.fromJsonTree(element);
-                // WORK-AROUND:
-                // If we have a constant JSON value (for example tile states and platform sessions)
-                // just return it normally here.
-                if (field.isConstant) return fieldTypeAdapter.fromJsonTree(asObjectWrapped);
-                // otherwise we can assume its an array.
-                final var asArray = element.getAsJsonArray();
-                // if we want to use raw types just return wrapped object.
-                // finally we can create a new list from the R type and add each element to that list.
-                // TODO: Figure out a way to just deserialize straight to an array rather than deserializing each element then adding it.
-                final var list = new ArrayList<R>();
-                asArray.forEach(jsonElement -> list.add(fieldTypeAdapter.fromJsonTree(jsonElement)));
-                // cast and return.
-                return (R) list;
+                return readWrapped(in, field.wrappedValue, fieldTypeAdapter, field.isConstant);
             }
         };
     }
 
+    /**
+     * Write a wrapped value as a JSON string, this is also used by the generated adapters.
+     *
+     * @param out          the writer
+     * @param wrappedValue the wrapped name
+     * @param adapter      the adapter for the value
+     * @param value        the value
+     * @param isConstant   {@code true} if the value is a constant array.
+     * @param <R>          TYPE
+     * @throws IOException if an IO error occurred.
+     */
+    public static <R> void writeWrapped(JsonWriter out, String wrappedValue, TypeAdapter<R> adapter, R value, boolean isConstant) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        // a nested write on this thread is still using the buffer, use a new one.
+        var buffer = BUFFER.get();
+        if (buffer.getBuffer().length() > 0) buffer = new StringWriter();
+        try {
+            // write the wrapped object straight into the buffer and emit it as a string.
+            final var writer = new JsonWriter(buffer);
+            writer.setLenient(true);
+            writer.beginObject().name(wrappedValue);
+            if (isConstant) {
+                // WORK-AROUND:
+                // Since we have a constant value (JsonArray)
+                // just write it instead of serializing with GSON.
+                writer.beginArray().endArray();
+            } else {
+                adapter.write(writer, value);
+            }
+            writer.endObject().flush();
+            out.value(buffer.toString());
+        } finally {
+            buffer.getBuffer().setLength(0);
+            if (buffer.getBuffer().capacity() > MAX_BUFFER_SIZE) BUFFER.remove();
+        }
+    }
+
+    /**
+     * Read a wrapped value from a JSON string, this is also used by the generated adapters.
+     *
+     * @param in           the reader
+     * @param wrappedValue the wrapped name
+     * @param adapter      the adapter for the value or for each element if the wrapped value is an array.
+     * @param isConstant   {@code true} if the value is a constant array.
+     * @param <R>          TYPE
+     * @return the value, a list if the wrapped value is an array.
+     * @throws IOException if an IO error occurred.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R readWrapped(JsonReader in, String wrappedValue, TypeAdapter<?> adapter, boolean isConstant) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        // the value is a json string, read it with its own reader instead of parsing it to a tree first.
+        final var reader = new JsonReader(new StringReader(in.nextString()));
+        reader.setLenient(true);
+        // WORK-AROUND:
+        // If we have a constant JSON value (for example tile states and platform sessions)
+        // the type itself holds the wrapped value so read the whole object.
+        if (isConstant) return (R) adapter.read(reader);
+
+        // find the wrapped element as provided from the annotation.
+        Object value = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(wrappedValue)) {
+                value = readWrapped(reader, adapter);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return (R) value;
+    }
+
+    /**
+     * Read the wrapped value, either an object or an array of objects.
+     *
+     * @param reader  the reader
+     * @param adapter the adapter
+     * @return the value
+     * @throws IOException if an IO error occurred.
+     */
+    private static Object readWrapped(JsonReader reader, TypeAdapter<?> adapter) throws IOException {
+        // if we have an object just read normally.
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) return adapter.read(reader);
+        // otherwise read each element straight into the list.
+        final var list = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) list.add(adapter.read(reader));
+        reader.endArray();
+        return list;
+    }
+
     /**
      * Represents one of the two annotations {@link FortniteArray} or {@link FortniteObject}
      */
@@ -1,5 +1,7 @@
 package athena.util.json.hooks;
 
+import athena.util.json.DeserializationErrorHandler;
+import com.google.common.flogger.FluentLogger;
 import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
@@ -8,7 +10,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,9 +25,24 @@ import java.util.Map;
 public final class Hooks implements TypeAdapterFactory {
 
     /**
-     * Stores methods annotated with {@link PostDeserialize}
+     * The LOGGER.
      */
-    private final Map<Type, List<Method>> methodCache = new HashMap<>();
+    private static final FluentLogger LOGGER = FluentLogger.forEnclosingClass();
+
+    /**
+     * The type every hook is adapted to, {@code void (Object)}
+     */
+    private static final MethodType HOOK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    /**
+     * Stores the compiled methods annotated with {@link PostDeserialize}
+     */
+    private final Map<Type, List<MethodHandle>> methodCache = new HashMap<>();
+
+    /**
+     * Receives hook failures, {@code null} to log them.
+     */
+    private final DeserializationErrorHandler errorHandler;
 
     /**
      * Initiate with all of the class types
@@ -32,24 +51,42 @@ public final class Hooks implements TypeAdapterFactory {
      * @return a new {@link Hooks}
      */
     public static Hooks allOf(Class<?>... types) {
-        return new Hooks(types);
+        return new Hooks(null, types);
+    }
+
+    /**
+     * Initiate with all of the class types
+     *
+     * @param errorHandler receives hook failures, {@code null} to log them.
+     * @param types        the classes
+     * @return a new {@link Hooks}
+     */
+    public static Hooks allOf(DeserializationErrorHandler errorHandler, Class<?>... types) {
+        return new Hooks(errorHandler, types);
     }
 
     /**
-     * Initialize and populate the map
+     * Initialize and populate the map, each hook is compiled into a {@link MethodHandle} once.
      *
-     * @param types the types
+     * @param errorHandler the error handler
+     * @param types        the types
      */
-    private Hooks(Class<?>... types) {
+    private Hooks(DeserializationErrorHandler errorHandler, Class<?>... types) {
+        this.errorHandler = errorHandler;
+        final var lookup = MethodHandles.lookup();
         for (var clazz : types) {
-            final var list = new ArrayList<Method>();
+            final var list = new ArrayList<MethodHandle>();
             for (var method : clazz.getDeclaredMethods()) {
                 if (method.isAnnotationPresent(PostDeserialize.class)) {
                     method.setAccessible(true);
-                    list.add(method);
+                    try {
+                        list.add(lookup.unreflect(method).asType(HOOK_TYPE));
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access hook " + method, exception);
+                    }
                 }
             }
-            if (!list.isEmpty()) methodCache.put(clazz, list);
+            if (!list.isEmpty()) methodCache.put(clazz, List.copyOf(list));
         }
     }
 
@@ -57,7 +94,7 @@ public final class Hooks implements TypeAdapterFactory {
     public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
         if (!methodCache.containsKey(type.getRawType())) return null;
         return new TypeAdapter<>() {
-            private final List<Method> methods = methodCache.get(type.getRawType());
+            private final List<MethodHandle> methods = methodCache.get(type.getRawType());
             private final TypeAdapter<T> original = gson.getDelegateAdapter(Hooks.this, type);
 
             @Override
@@ -68,15 +105,42 @@ public final class Hooks implements TypeAdapterFactory {
             @Override
             public T read(JsonReader in) throws IOException {
                 final var deserialized = original.read(in);
-                methods.forEach(method -> {
-                    try {
-                        method.invoke(deserialized);
-                    } catch (Exception exception) {
-                        exception.printStackTrace();
-                    }
-                });
+                if (deserialized == null) return null;
+                for (var method : methods) invoke(method, deserialized, errorHandler);
                 return deserialized;
             }
         };
     }
+
+    /**
+     * Run a compiled hook, this is also used by the generated adapters.
+     *
+     * @param hook         the hook, adapted to {@code void (Object)}
+     * @param value        the deserialized value
+     * @param errorHandler receives the failure, {@code null} to log it.
+     */
+    public static void invoke(MethodHandle hook, Object value, DeserializationErrorHandler errorHandler) {
+        try {
+            hook.invokeExact(value);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            failed(value, throwable, errorHandler);
+        }
+    }
+
+    /**
+     * Report a failed hook.
+     *
+     * @param value        the value
+     * @param cause        the cause
+     * @param errorHandler the error handler
+     */
+    private static void failed(Object value, Throwable cause, DeserializationErrorHandler errorHandler) {
+        if (errorHandler == null) {
+            LOGGER.atWarning().withCause(cause).log("PostDeserialize hook failed for " + value.getClass().getSimpleName());
+        } else {
+            errorHandler.handle(value, cause);
+        }
+    }
 }
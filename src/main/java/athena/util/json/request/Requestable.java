@@ -3,6 +3,7 @@ package athena.util.json.request;
 import athena.Athena;
 import athena.account.Accounts;
 import athena.account.resource.Account;
+import athena.account.resource.AccountRegistry;
 import athena.account.service.AccountPublicService;
 import athena.chat.FriendChat;
 import athena.friend.Friends;
@@ -10,6 +11,7 @@ import athena.friend.service.FriendsPublicService;
 import athena.party.Parties;
 import athena.party.service.PartyService;
 import athena.presence.service.PresencePublicService;
+import com.google.common.flogger.FluentLogger;
 import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
@@ -18,6 +20,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -26,28 +31,46 @@ import java.util.Map;
 
 /**
  * Used to request certain resources/services from the athena instance
+ * <p>
+ * The setters for every {@link Request} field are compiled once per type and the requested values are resolved once
+ * in {@link #registerRequestables()}, so each deserialized object only runs its setters.
+ * Adapters generated for {@link athena.util.json.adapter.StreamingAdapter} types set the fields themselves with {@link #resolve(Class[], boolean[])}.
+ * Types can request the {@link Athena} instance itself as a context object instead of each service it needs.
+ * <p>
+ * Every deserialized {@link Account} goes through an {@link AccountRegistry} so there is only one instance per account ID.
  */
 public final class Requestable implements TypeAdapterFactory {
 
+    /**
+     * The LOGGER.
+     */
+    private static final FluentLogger LOGGER = FluentLogger.forEnclosingClass();
+
+    /**
+     * The type every setter is adapted to, {@code void (Object, Object)}
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
     /**
      * The athena instance
      */
     private final Athena athena;
 
     /**
-     * The local account
+     * The canonical accounts.
      */
-    private Account localAccount;
+    private final AccountRegistry accounts = new AccountRegistry();
 
     /**
-     * Stores every field annotated with {@link Request}
+     * Injectors for each type with fields annotated with {@link Request}
      */
-    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+    private final Map<Class<?>, Injector> injectors = new HashMap<>();
 
     /**
-     * Requestable objects.
+     * The requestable objects and the local account, {@code null} until {@link #registerRequestables()} is called.
      */
-    private final Map<Class<?>, Object> requestables = new HashMap<>();
+    private volatile Map<Class<?>, Object> requestables;
+    private volatile Account localAccount;
 
     /**
      * Initialize with all of the types
@@ -61,7 +84,7 @@ public final class Requestable implements TypeAdapterFactory {
     }
 
     /**
-     * Initialize - will take all fields annotated and add them to a list
+     * Initialize - will compile a setter for each annotated field.
      *
      * @param athena the athena instance
      * @param types  the class types.
@@ -71,13 +94,9 @@ public final class Requestable implements TypeAdapterFactory {
         for (var clazz : types) {
             final var list = new ArrayList<Field>();
             for (var field : clazz.getDeclaredFields()) {
-                final var request = field.getAnnotation(Request.class);
-                if (request != null) {
-                    field.setAccessible(true);
-                    list.add(field);
-                }
+                if (field.isAnnotationPresent(Request.class)) list.add(field);
             }
-            if (!list.isEmpty()) fields.put(clazz, list);
+            if (!list.isEmpty()) injectors.put(clazz, new Injector(list));
         }
     }
 
@@ -85,6 +104,8 @@ public final class Requestable implements TypeAdapterFactory {
      * Register all objects that can be requested through the annotation {@link Request}
      */
     public void registerRequestables() {
+        final var requestables = new HashMap<Class<?>, Object>();
+        requestables.put(Athena.class, athena);
         requestables.put(Accounts.class, athena.account());
         requestables.put(AccountPublicService.class, athena.accountPublicService());
         requestables.put(FriendsPublicService.class, athena.friendsPublicService());
@@ -93,21 +114,58 @@ public final class Requestable implements TypeAdapterFactory {
         requestables.put(Parties.class, athena.party());
         requestables.put(Friends.class, athena.friend());
         requestables.put(FriendChat.class, athena.chat());
-        this.localAccount = athena.localAccount();
+        final var localAccount = athena.localAccount();
+        injectors.values().forEach(injector -> injector.resolve(requestables, localAccount));
+        this.localAccount = localAccount;
+        this.requestables = requestables;
+
+        // the local account was deserialized before anything could be injected.
+        final var accountInjector = injectors.get(Account.class);
+        if (accountInjector != null && localAccount != null) accountInjector.inject(localAccount);
+        if (localAccount != null) accounts.canonicalize(localAccount);
+    }
+
+    /**
+     * Resolve what each item requests, used by the generated adapters which set their own {@link Request} fields.
+     *
+     * @param items the requested items
+     * @param local {@code true} for each item that is the local account
+     * @return the value for each item or {@code null} if {@link #registerRequestables()} was not called yet.
+     */
+    public Object[] resolve(Class<?>[] items, boolean[] local) {
+        final var requestables = this.requestables;
+        if (requestables == null) return null;
+        return values(items, local, requestables, localAccount);
+    }
+
+    /**
+     * Return the instance we already have if {@code value} is an account, this includes the local account.
+     *
+     * @param value the deserialized value
+     * @param <T>   TYPE
+     * @return the canonical value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T canonicalize(T value) {
+        if (value instanceof Account) return (T) accounts.canonicalize((Account) value);
+        return value;
+    }
+
+    /**
+     * @return the canonical accounts.
+     */
+    public AccountRegistry accounts() {
+        return accounts;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
         // since this class isn't registered yet.
-        if (!fields.containsKey(type.getRawType())) return null;
-        // we have friend type
-        // so it goes to deserialize
-        // check fields
+        final var injector = injectors.get(type.getRawType());
+        if (injector == null) return null;
 
         return new TypeAdapter<>() {
-            // the list of fields
-            private final List<Field> fields = Requestable.this.fields.get(type.getRawType());
             // the original type adapter.
             private final TypeAdapter<T> original = (TypeAdapter<T>) gson.getDelegateAdapter(Requestable.this, TypeToken.get(type.getRawType()));
 
@@ -119,30 +177,91 @@ public final class Requestable implements TypeAdapterFactory {
             @Override
             public T read(JsonReader in) throws IOException {
                 final var deserialized = original.read(in);
-                // check if we have an account type.
-                if (type.getRawType().isAssignableFrom(Account.class)) {
-                    // if so, return right away if we have no local account yet.
-                    // this indicates we are authenticating and need our account.
-                    if (localAccount == null) return deserialized;
-                    // other-wise - compare, if its our account ID return the local and if not return the deserialized.
-                    final var account = (Account) deserialized;
-                    if (account.accountId().equals(localAccount.accountId())) {
-                        return (T) localAccount;
-                    }
-                    return deserialized;
+                if (deserialized == null) return null;
+                injector.inject(deserialized);
+                return canonicalize(deserialized);
+            }
+        };
+    }
+
+    /**
+     * Resolve the value for each item.
+     *
+     * @param items        the requested items
+     * @param local        {@code true} for each item that is the local account
+     * @param requestables the requestable objects
+     * @param localAccount the local account
+     * @return the values
+     */
+    private static Object[] values(Class<?>[] items, boolean[] local, Map<Class<?>, Object> requestables, Account localAccount) {
+        final var values = new Object[items.length];
+        for (int i = 0; i < items.length; i++) values[i] = local[i] ? localAccount : requestables.get(items[i]);
+        return values;
+    }
+
+    /**
+     * Sets the requested fields of one type.
+     */
+    private static final class Injector {
+
+        /**
+         * Compiled setters and what each one requests.
+         */
+        private final MethodHandle[] setters;
+        private final Class<?>[] items;
+        private final boolean[] local;
+
+        /**
+         * The value for each setter, {@code null} until {@link #registerRequestables()} is called.
+         */
+        private volatile Object[] values;
+
+        private Injector(List<Field> fields) {
+            final var lookup = MethodHandles.lookup();
+            setters = new MethodHandle[fields.size()];
+            items = new Class<?>[fields.size()];
+            local = new boolean[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                final var field = fields.get(i);
+                final var request = field.getAnnotation(Request.class);
+                field.setAccessible(true);
+                try {
+                    setters[i] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                } catch (IllegalAccessException exception) {
+                    throw new IllegalStateException("Cannot access requested field " + field, exception);
                 }
+                items[i] = request.item();
+                local[i] = request.local();
+            }
+        }
 
-                // if we don't have the account type, iterate through all fields.
-                fields.forEach(field -> {
-                    final var instance = requestables.get(field.getType());
-                    try {
-                        field.set(deserialized, instance);
-                    } catch (IllegalAccessException exception) {
-                        exception.printStackTrace();
-                    }
-                });
-                return deserialized;
+        /**
+         * Resolve the value for each setter.
+         *
+         * @param requestables the requestable objects
+         * @param localAccount the local account
+         */
+        private void resolve(Map<Class<?>, Object> requestables, Account localAccount) {
+            values = values(items, local, requestables, localAccount);
+        }
+
+        /**
+         * Set every requested field of {@code instance}
+         *
+         * @param instance the instance
+         */
+        private void inject(Object instance) {
+            final var values = this.values;
+            if (values == null) return;
+            for (int i = 0; i < setters.length; i++) {
+                try {
+                    setters[i].invokeExact(instance, values[i]);
+                } catch (Error error) {
+                    throw error;
+                } catch (Throwable throwable) {
+                    LOGGER.atWarning().withCause(throwable).log("Failed to inject " + items[i].getSimpleName() + " into " + instance.getClass().getSimpleName());
+                }
             }
-        };
+        }
     }
 }
@@ -3,17 +3,29 @@ package athena.util.reflection;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * A utility class used to inspect and cache methods.
+ * <p>
+ * Annotated methods are cached per class in a {@link ClassValue} that is shared by every caller,
+ * so a class is only scanned once for each annotation no matter how many instances are registered.
  */
 public final class MethodInspector {
 
     /**
      * The method cache.
      */
-    private final Map<Class<?>, Map<Class<? extends Annotation>, MethodData>> cache = new HashMap<>();
+    private static final ClassValue<ClassMethods> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassMethods computeValue(Class<?> type) {
+            return new ClassMethods(type);
+        }
+    };
+
+    private MethodInspector() {
+    }
 
     /**
      * Cache annotated methods annotated with the provided {@code annotations} once.
@@ -21,17 +33,14 @@ public final class MethodInspector {
      * @param clazz       the class
      * @param annotations the annotations
      */
-    public void cacheAnnotatedMethodsOnce(Class<?> clazz, Class<? extends Annotation>[] annotations) {
+    public static void cacheAnnotatedMethodsOnce(Class<?> clazz, Class<? extends Annotation>[] annotations) {
         if (clazz == null || annotations == null) throw new NullPointerException("Clazz or annotation is null.");
 
-        final var cache = this.cache.containsKey(clazz) ? this.cache.get(clazz) : new HashMap<Class<? extends Annotation>, MethodData>();
+        final var methods = CACHE.get(clazz);
         for (var annotation : annotations) {
             if (annotation == null) throw new NullPointerException("one of the annotations is null.");
-            final var methods = collectAnnotatedMethods(new Class[]{clazz}, annotation);
-            if (methods.isEmpty()) continue;
-            cache.put(annotation, new MethodData(methods));
+            methods.get(annotation);
         }
-        this.cache.put(clazz, cache);
     }
 
     /**
@@ -41,12 +50,8 @@ public final class MethodInspector {
      * @param annotation the annotation
      * @return a list of methods
      */
-    public Collection<Method> getMethods(Class<?> clazz, Class<? extends Annotation> annotation) {
-        if (!cache.containsKey(clazz)) throw new IllegalArgumentException("That class is not cached yet.");
-        final var cache = this.cache.get(clazz);
-        final var data = cache.get(annotation);
-        if (data == null) return Collections.emptyList();
-        return data.getMethods();
+    public static Collection<Method> getMethods(Class<?> clazz, Class<? extends Annotation> annotation) {
+        return CACHE.get(clazz).get(annotation).getMethods();
     }
 
     /**
@@ -57,20 +62,8 @@ public final class MethodInspector {
      * @param parameters the parameter types
      * @return a list of methods
      */
-    public Collection<Method> getMethodsWithParameters(Class<?> clazz, Class<? extends Annotation> annotation, Class<?>... parameters) {
-        if (!cache.containsKey(clazz)) throw new IllegalArgumentException("That class is not cached yet.");
-        final var cache = this.cache.get(clazz);
-        final var data = cache.get(annotation);
-        return data.getMatchingParameterType(parameters);
-    }
-
-    /**
-     * Remove a class from the cache.
-     *
-     * @param clazz the class.
-     */
-    public void removeClass(Class<?> clazz) {
-        cache.remove(clazz);
+    public static Collection<Method> getMethodsWithParameters(Class<?> clazz, Class<? extends Annotation> annotation, Class<?>... parameters) {
+        return CACHE.get(clazz).get(annotation).getMatchingParameterType(parameters);
     }
 
     /**
@@ -81,7 +74,7 @@ public final class MethodInspector {
      * @param classes    the classes
      * @return a list of methods
      */
-    private Collection<Method> collectAnnotatedMethodsTo(Class<? extends Annotation> annotation, Collection<Method> methods, Class<?>... classes) {
+    private static Collection<Method> collectAnnotatedMethodsTo(Class<? extends Annotation> annotation, Collection<Method> methods, Class<?>... classes) {
         for (var clazz : classes) {
             for (var method : clazz.getDeclaredMethods()) {
                 if (method.isAnnotationPresent(annotation)) {
@@ -101,7 +94,7 @@ public final class MethodInspector {
      * @param annotation the annotation
      * @return a list of methods
      */
-    private Collection<Method> collectAnnotatedMethods(Class<?>[] classes, Class<? extends Annotation> annotation) {
+    private static Collection<Method> collectAnnotatedMethods(Class<?>[] classes, Class<? extends Annotation> annotation) {
         final var methods = collectAnnotatedMethodsTo(annotation, new LinkedHashSet<>(), classes);
         for (var clazz : classes) {
             methods.addAll(collectAnnotatedMethodsTo(annotation, methods, clazz.getSuperclass()));
@@ -110,6 +103,35 @@ public final class MethodInspector {
         return methods;
     }
 
+    /**
+     * The annotated methods of one class.
+     */
+    private static final class ClassMethods {
+
+        /**
+         * The class.
+         */
+        private final Class<?> clazz;
+        /**
+         * Methods for each annotation.
+         */
+        private final ConcurrentHashMap<Class<? extends Annotation>, MethodData> methods = new ConcurrentHashMap<>();
+
+        private ClassMethods(Class<?> clazz) {
+            this.clazz = clazz;
+        }
+
+        /**
+         * @param annotation the annotation
+         * @return the methods annotated with {@code annotation}, collected the first time.
+         */
+        private MethodData get(Class<? extends Annotation> annotation) {
+            final var data = methods.get(annotation);
+            if (data != null) return data;
+            return methods.computeIfAbsent(annotation, type -> new MethodData(collectAnnotatedMethods(new Class[]{clazz}, type)));
+        }
+    }
+
     /**
      * Used to store data about a method.
      */
@@ -5,12 +5,14 @@ import athena.exception.EpicGamesErrorException;
 import com.google.common.flogger.FluentLogger;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
 import retrofit2.internal.EverythingIsNonNull;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A utility class used to execute requests.
@@ -27,6 +29,11 @@ public final class Requests {
      */
     private static final Gson GSON = Athena.GSON;
 
+    /**
+     * The maximum amount of bytes to peek when reading an error code.
+     */
+    private static final long MAX_ERROR_BODY = 64 * 1024;
+
     /**
      * Execute a call.
      *
@@ -89,6 +96,32 @@ public final class Requests {
         });
     }
 
+    /**
+     * Executes a call async using {@link Call#enqueue(Callback)}
+     * The returned future is completed on the OkHttp dispatcher thread, if the API returned an error
+     * the future will be completed exceptionally with a {@link EpicGamesErrorException}
+     * Cancelling the future will also cancel the underlying call.
+     *
+     * @param call the call
+     * @param <T>  the TYPE.
+     * @return a {@link CompletableFuture} that will contain the TYPE.
+     */
+    public static <T> CompletableFuture<T> executeCallAsync(Call<T> call) {
+        final var future = new CompletableFuture<T>();
+        executeCallAsync(call, (result, failed, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        });
+
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) call.cancel();
+        });
+        return future;
+    }
+
     /**
      * Executes a call that has no return.
      *
@@ -99,4 +132,31 @@ public final class Requests {
         executeCall(call);
     }
 
+    /**
+     * Executes a call async that has no return.
+     *
+     * @param call the call
+     * @param <T>  the TYPE.
+     * @return a {@link CompletableFuture} that is completed once the call is executed.
+     */
+    public static <T> CompletableFuture<Void> executeVoidCallAsync(Call<T> call) {
+        return executeCallAsync(call).thenApply(result -> null);
+    }
+
+    /**
+     * Read the epic error code from an error response without consuming the body.
+     *
+     * @param response the response
+     * @return the error code or {@code null} if the body has none.
+     */
+    public static String peekErrorCode(okhttp3.Response response) {
+        try {
+            final var object = GSON.fromJson(response.peekBody(MAX_ERROR_BODY).string(), JsonObject.class);
+            if (object == null || !object.has("errorCode")) return null;
+            return object.get("errorCode").getAsString();
+        } catch (IOException | JsonParseException | IllegalStateException | UnsupportedOperationException exception) {
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,16 @@
+package athena.util.request.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method whose response is large and rarely changes.
+ * When a {@link HttpCache} is enabled the last deserialized value is reused if the response body has not changed.
+ * Values returned from these methods are shared and should not be modified.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+}
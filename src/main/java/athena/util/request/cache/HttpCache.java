@@ -0,0 +1,197 @@
+package athena.util.request.cache;
+
+import okhttp3.Cache;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Invocation;
+import retrofit2.Retrofit;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An opt-in HTTP cache.
+ * Responses are stored in a bounded on-disk {@link Cache} and revalidated with {@code If-None-Match} and {@code If-Modified-Since}.
+ * Only responses of service methods annotated with {@link Cacheable} are stored, those also skip deserialization when the body is unchanged.
+ * Cacheable responses are keyed by URL only, so a cache shared between accounts must only be used for methods that are the same for every account
+ * or that include the account in the URL.
+ */
+public final class HttpCache {
+
+    /**
+     * The OkHttp disk cache.
+     */
+    private final Cache cache;
+
+    /**
+     * Conditional requests sent, 304 responses received and deserializations skipped.
+     */
+    private final AtomicLong conditionalRequests = new AtomicLong(), notModified = new AtomicLong(), deserializationsSkipped = new AtomicLong();
+
+    /**
+     * Initialize a new cache
+     *
+     * @param directory the cache directory
+     * @param maxSize   the maximum size in bytes.
+     */
+    public HttpCache(File directory, long maxSize) {
+        this.cache = new Cache(directory, maxSize);
+    }
+
+    /**
+     * @return the OkHttp cache.
+     */
+    public Cache cache() {
+        return cache;
+    }
+
+    /**
+     * @return a network interceptor that records conditional requests and keeps responses of other methods out of the cache.
+     */
+    public Interceptor networkInterceptor() {
+        return chain -> {
+            final var request = chain.request();
+            final var conditional = request.header("If-None-Match") != null || request.header("If-Modified-Since") != null;
+            final var response = chain.proceed(request);
+            if (conditional) {
+                conditionalRequests.incrementAndGet();
+                if (response.code() == 304) notModified.incrementAndGet();
+            }
+            return isCacheable(request) ? response : response.newBuilder().header("Cache-Control", "no-store").build();
+        };
+    }
+
+    /**
+     * @param request the request
+     * @return {@code true} if {@code request} was made by a {@link Cacheable} service method.
+     */
+    private static boolean isCacheable(Request request) {
+        final var invocation = request.tag(Invocation.class);
+        return invocation != null && invocation.method().isAnnotationPresent(Cacheable.class);
+    }
+
+    /**
+     * @return a converter factory that reuses deserialized values for {@link Cacheable} methods, must be added before the GSON converter.
+     */
+    public Converter.Factory converterFactory() {
+        return new Converter.Factory() {
+            @Override
+            public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations, Retrofit retrofit) {
+                for (var annotation : annotations) {
+                    if (annotation instanceof Cacheable) return new MemoizingConverter<>(retrofit.nextResponseBodyConverter(this, type, annotations));
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * @return the amount of requests served by the cache, including revalidated ones.
+     */
+    public int hitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * @return the amount of requests sent to the network.
+     */
+    public int networkCount() {
+        return cache.networkCount();
+    }
+
+    /**
+     * @return the amount of conditional requests sent.
+     */
+    public long conditionalRequests() {
+        return conditionalRequests.get();
+    }
+
+    /**
+     * @return the amount of conditional requests that returned 304.
+     */
+    public long notModified() {
+        return notModified.get();
+    }
+
+    /**
+     * @return the ratio of conditional requests that returned 304, or {@code 0}
+     */
+    public double notModifiedRate() {
+        final var total = conditionalRequests.get();
+        return total == 0 ? 0 : (double) notModified.get() / total;
+    }
+
+    /**
+     * @return the amount of times deserialization was skipped.
+     */
+    public long deserializationsSkipped() {
+        return deserializationsSkipped.get();
+    }
+
+    /**
+     * Close the cache.
+     *
+     * @throws IOException if the cache could not be closed.
+     */
+    public void close() throws IOException {
+        cache.close();
+    }
+
+    /**
+     * Reuses the last value if the response body is the same.
+     *
+     * @param <T> TYPE
+     */
+    private final class MemoizingConverter<T> implements Converter<ResponseBody, T> {
+
+        /**
+         * The delegate converter.
+         */
+        private final Converter<ResponseBody, T> delegate;
+        /**
+         * The last body and value.
+         */
+        private volatile Memo<T> last;
+
+        private MemoizingConverter(Converter<ResponseBody, T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T convert(ResponseBody value) throws IOException {
+            final var contentType = value.contentType();
+            final var bytes = value.bytes();
+            final var memo = last;
+            if (memo != null && Arrays.equals(memo.body, bytes)) {
+                deserializationsSkipped.incrementAndGet();
+                return memo.value;
+            }
+
+            final var converted = delegate.convert(ResponseBody.create(bytes, contentType));
+            last = new Memo<>(bytes, converted);
+            return converted;
+        }
+    }
+
+    /**
+     * A body and its deserialized value.
+     *
+     * @param <T> TYPE
+     */
+    private static final class Memo<T> {
+        private final byte[] body;
+        private final T value;
+
+        private Memo(byte[] body, T value) {
+            this.body = body;
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package athena.util.request.coalesce;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Merges identical GET requests that are in flight at the same time into one network call.
+ * The first request (the leader) is executed and its response is buffered, every other identical request waits and receives a copy.
+ * <p>
+ * Requests are identical if they have the same URL and the same {@code Authorization} header,
+ * so requests from different accounts are never merged.
+ * <p>
+ * If the leader is canceled its waiting requests are not failed with it, one of them becomes the new leader instead.
+ * Waiting requests give up when their own call is canceled or after the read timeout of their chain.
+ */
+public final class CoalescingInterceptor implements Interceptor {
+
+    /**
+     * How often a waiting request checks if its call was canceled.
+     */
+    private static final long POLL_MILLIS = 50;
+
+    /**
+     * Requests that are currently in flight.
+     */
+    private final ConcurrentHashMap<Key, CompletableFuture<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of requests executed and the amount of requests that were merged into another.
+     */
+    private final AtomicLong executed = new AtomicLong(), coalesced = new AtomicLong();
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final var request = chain.request();
+        if (!request.method().equals("GET")) return chain.proceed(request);
+
+        final var key = new Key(request.url().toString(), request.header("Authorization"));
+        while (true) {
+            final var future = new CompletableFuture<BufferedResponse>();
+            final var existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                coalesced.incrementAndGet();
+                final var buffered = await(chain, existing);
+                // the leader was canceled, try again.
+                if (buffered == null) continue;
+                return buffered.toResponse(request);
+            }
+
+            // we are the leader, execute and share the result.
+            executed.incrementAndGet();
+            try {
+                final var buffered = BufferedResponse.of(chain.proceed(request));
+                future.complete(buffered);
+                return buffered.toResponse(request);
+            } catch (IOException | RuntimeException exception) {
+                // a canceled leader only fails itself, waiting requests take over.
+                if (chain.call().isCanceled()) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(exception);
+                }
+                throw exception;
+            } finally {
+                inFlight.remove(key, future);
+            }
+        }
+    }
+
+    /**
+     * @return the amount of GET requests that were sent to the network.
+     */
+    public long executed() {
+        return executed.get();
+    }
+
+    /**
+     * @return the amount of GET requests that were merged into an in-flight request.
+     */
+    public long coalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Wait for the leader to finish, until the call of {@code chain} is canceled or its read timeout passes.
+     *
+     * @param chain  the chain of the waiting request
+     * @param future the future
+     * @return the response or {@code null} if the leader was canceled.
+     * @throws IOException if the leader failed, the call was canceled or the wait timed out.
+     */
+    private BufferedResponse await(Chain chain, CompletableFuture<BufferedResponse> future) throws IOException {
+        final var timeout = chain.readTimeoutMillis();
+        final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            while (true) {
+                try {
+                    return future.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException ignored) {
+                    if (chain.call().isCanceled()) throw new IOException("Canceled");
+                    if (timeout > 0 && System.nanoTime() - deadline > 0) throw new SocketTimeoutException("Timed out waiting for an in-flight request.");
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an in-flight request.");
+        } catch (ExecutionException exception) {
+            final var cause = exception.getCause();
+            if (cause instanceof IOException) throw new IOException(cause.getMessage(), cause);
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * A response with its body fully read so it can be handed out more than once.
+     */
+    private static final class BufferedResponse {
+
+        /**
+         * The original response, its body is already consumed.
+         */
+        private final Response response;
+        private final byte[] body;
+        private final MediaType mediaType;
+
+        private BufferedResponse(Response response, byte[] body, MediaType mediaType) {
+            this.response = response;
+            this.body = body;
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Read the response body.
+         *
+         * @param response the response
+         * @return a new {@link BufferedResponse}
+         * @throws IOException if the body could not be read.
+         */
+        private static BufferedResponse of(Response response) throws IOException {
+            try (final var body = response.body()) {
+                if (body == null) return new BufferedResponse(response, null, null);
+                return new BufferedResponse(response, body.bytes(), body.contentType());
+            }
+        }
+
+        /**
+         * @param request the request this response is for.
+         * @return a new response with its own body.
+         */
+        private Response toResponse(Request request) {
+            final var builder = response.newBuilder().request(request);
+            if (body != null) builder.body(ResponseBody.create(body, mediaType));
+            return builder.build();
+        }
+    }
+
+    /**
+     * Identifies a request.
+     */
+    private static final class Key {
+
+        private final String url, authorization;
+
+        private Key(String url, String authorization) {
+            this.url = url;
+            this.authorization = authorization;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final var key = (Key) o;
+            return url.equals(key.url) && Objects.equals(authorization, key.authorization);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, authorization);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package athena.util.request.metrics;
+
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metrics for one endpoint.
+ */
+public final class EndpointSnapshot {
+
+    /**
+     * The upper bound of each latency bucket in milliseconds, the last bucket has no upper bound.
+     */
+    private static final long[] LATENCY_BUCKETS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, Long.MAX_VALUE};
+
+    private final String service, method, path;
+    private final long requests, errors, totalMillis, maxMillis, bytesIn, bytesOut;
+    private final long[] latencyBuckets;
+    private final Map<String, Long> errorCodes;
+
+    EndpointSnapshot(String service, String method, String path, long requests, long errors, long totalMillis, long maxMillis,
+                     long bytesIn, long bytesOut, long[] latencyBuckets, Map<String, Long> errorCodes) {
+        this.service = service;
+        this.method = method;
+        this.path = path;
+        this.requests = requests;
+        this.errors = errors;
+        this.totalMillis = totalMillis;
+        this.maxMillis = maxMillis;
+        this.bytesIn = bytesIn;
+        this.bytesOut = bytesOut;
+        this.latencyBuckets = latencyBuckets;
+        this.errorCodes = Map.copyOf(errorCodes);
+    }
+
+    /**
+     * @return the service, ex: "AccountPublicService"
+     */
+    public String service() {
+        return service;
+    }
+
+    /**
+     * @return the HTTP method
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * @return the templated path, ex: "account/api/public/account/{accountId}"
+     */
+    public String path() {
+        return path;
+    }
+
+    /**
+     * @return the amount of requests.
+     */
+    public long requests() {
+        return requests;
+    }
+
+    /**
+     * @return the amount of requests that failed or returned a non-2xx code.
+     */
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * @return the average latency in milliseconds.
+     */
+    public double averageMillis() {
+        return requests == 0 ? 0 : (double) totalMillis / requests;
+    }
+
+    /**
+     * @return the highest latency in milliseconds.
+     */
+    public long maxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * Estimate a latency percentile from the histogram.
+     *
+     * @param percentile the percentile, ex: 0.99
+     * @return the upper bound of the bucket the percentile falls in, in milliseconds.
+     */
+    public long percentileMillis(double percentile) {
+        final var target = (long) Math.ceil(requests * percentile);
+        long seen = 0;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            seen += latencyBuckets[i];
+            if (seen >= target && seen > 0) return i == latencyBuckets.length - 1 ? maxMillis : LATENCY_BUCKETS[i];
+        }
+        return 0;
+    }
+
+    /**
+     * @return the upper bound of each latency bucket in milliseconds, the last bucket has no upper bound.
+     */
+    public static long[] latencyBucketBounds() {
+        return LATENCY_BUCKETS.clone();
+    }
+
+    /**
+     * @return the amount of latency buckets.
+     */
+    static int latencyBucketCount() {
+        return LATENCY_BUCKETS.length;
+    }
+
+    /**
+     * @param millis the latency in milliseconds
+     * @return the index of the bucket {@code millis} falls in.
+     */
+    static int latencyBucketOf(long millis) {
+        var bucket = 0;
+        while (millis > LATENCY_BUCKETS[bucket]) bucket++;
+        return bucket;
+    }
+
+    /**
+     * @return the amount of requests in each bucket of {@link #latencyBucketBounds()}
+     */
+    public long[] latencyBuckets() {
+        return latencyBuckets.clone();
+    }
+
+    /**
+     * @return the total bytes received.
+     */
+    public long bytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * @return the total bytes sent.
+     */
+    public long bytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * @return the amount of each epic error code returned.
+     */
+    public Map<String, Long> errorCodes() {
+        return errorCodes;
+    }
+
+    @Override
+    public String toString() {
+        return service + " " + method + " " + path + " requests=" + requests + " errors=" + errors + " avg=" + String.format("%.1f", averageMillis())
+                + "ms p99=" + percentileMillis(0.99) + "ms in=" + bytesIn + " out=" + bytesOut;
+    }
+}
@@ -0,0 +1,196 @@
+package athena.util.request.metrics;
+
+import athena.util.request.Requests;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Invocation;
+import retrofit2.http.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records per-endpoint latency, errors and bytes for every request.
+ * Endpoints are identified by their service and templated path, taken from the retrofit {@link Invocation}.
+ */
+public final class RequestMetrics implements Interceptor {
+
+    /**
+     * Metrics by service method, and by HTTP method and host for requests not made through retrofit.
+     */
+    private final ConcurrentHashMap<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Endpoint> other = new ConcurrentHashMap<>();
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final var request = chain.request();
+        final var endpoint = endpointOf(request);
+        final var body = request.body();
+        if (body != null && body.contentLength() > 0) endpoint.bytesOut.add(body.contentLength());
+
+        final var start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException exception) {
+            endpoint.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
+            throw exception;
+        }
+        endpoint.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), response.isSuccessful());
+        if (!response.isSuccessful()) endpoint.recordErrorCode(Requests.peekErrorCode(response));
+
+        // count bytes as the body is read.
+        final var responseBody = response.body();
+        if (responseBody == null) return response;
+        return response.newBuilder().body(new CountingResponseBody(responseBody, endpoint.bytesIn)).build();
+    }
+
+    /**
+     * @return a snapshot of every endpoint that has been requested.
+     */
+    public List<EndpointSnapshot> snapshot() {
+        final var list = new ArrayList<EndpointSnapshot>(endpoints.size() + other.size());
+        endpoints.values().forEach(endpoint -> list.add(endpoint.snapshot()));
+        other.values().forEach(endpoint -> list.add(endpoint.snapshot()));
+        return list;
+    }
+
+    /**
+     * Find the endpoint for a request.
+     *
+     * @param request the request
+     * @return the endpoint
+     */
+    private Endpoint endpointOf(Request request) {
+        final var invocation = request.tag(Invocation.class);
+        if (invocation == null) {
+            final var host = request.url().host();
+            return other.computeIfAbsent(request.method() + " " + host, ignored -> new Endpoint(host, request.method(), ""));
+        }
+        return endpoints.computeIfAbsent(invocation.method(), method -> new Endpoint(method.getDeclaringClass().getSimpleName(), request.method(), templateOf(method)));
+    }
+
+    /**
+     * Get the templated path of a service method.
+     *
+     * @param method the method
+     * @return the path, ex: "account/api/public/account/{accountId}"
+     */
+    private static String templateOf(Method method) {
+        if (method.isAnnotationPresent(GET.class)) return method.getAnnotation(GET.class).value();
+        if (method.isAnnotationPresent(POST.class)) return method.getAnnotation(POST.class).value();
+        if (method.isAnnotationPresent(PUT.class)) return method.getAnnotation(PUT.class).value();
+        if (method.isAnnotationPresent(PATCH.class)) return method.getAnnotation(PATCH.class).value();
+        if (method.isAnnotationPresent(DELETE.class)) return method.getAnnotation(DELETE.class).value();
+        if (method.isAnnotationPresent(HTTP.class)) return method.getAnnotation(HTTP.class).path();
+        return method.getName();
+    }
+
+    /**
+     * Metrics for a single endpoint.
+     */
+    private static final class Endpoint {
+
+        private final String service, method, path;
+        private final LongAdder requests = new LongAdder(), errors = new LongAdder(), totalMillis = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder(), bytesOut = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final LongAdder[] buckets = new LongAdder[EndpointSnapshot.latencyBucketCount()];
+        private final ConcurrentHashMap<String, LongAdder> errorCodes = new ConcurrentHashMap<>();
+
+        private Endpoint(String service, String method, String path) {
+            this.service = service;
+            this.method = method;
+            this.path = path;
+            for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+        }
+
+        /**
+         * Record a request.
+         *
+         * @param millis     the latency
+         * @param successful {@code true} if the request was successful.
+         */
+        private void record(long millis, boolean successful) {
+            requests.increment();
+            if (!successful) errors.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulateAndGet(millis, Math::max);
+            buckets[EndpointSnapshot.latencyBucketOf(millis)].increment();
+        }
+
+        /**
+         * Record an error code.
+         *
+         * @param errorCode the error code, or {@code null}
+         */
+        private void recordErrorCode(String errorCode) {
+            if (errorCode != null) errorCodes.computeIfAbsent(errorCode, ignored -> new LongAdder()).increment();
+        }
+
+        /**
+         * @return a new snapshot.
+         */
+        private EndpointSnapshot snapshot() {
+            final var latency = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) latency[i] = buckets[i].sum();
+            final var codes = new ConcurrentHashMap<String, Long>();
+            errorCodes.forEach((code, count) -> codes.put(code, count.sum()));
+            return new EndpointSnapshot(service, method, path, requests.sum(), errors.sum(), totalMillis.sum(), maxMillis.get(),
+                    bytesIn.sum(), bytesOut.sum(), latency, codes);
+        }
+    }
+
+    /**
+     * A response body that counts bytes as they are read.
+     */
+    private static final class CountingResponseBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        private CountingResponseBody(ResponseBody delegate, LongAdder counter) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+                    final var read = super.read(sink, byteCount);
+                    if (read > 0) counter.add(read);
+                    return read;
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @NotNull
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package athena.util.request.retry;
+
+import athena.util.request.Requests;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a {@link RetryPolicy} to every request.
+ */
+public final class RetryInterceptor implements Interceptor {
+
+    /**
+     * The policy.
+     */
+    private final RetryPolicy policy;
+
+    public RetryInterceptor(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final var request = chain.request();
+        final var host = request.url().host();
+
+        var attempt = 0;
+        while (true) {
+            try {
+                policy.acquire(host);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the rate limit.");
+            }
+
+            final var response = chain.proceed(request);
+            if (response.isSuccessful() || attempt >= policy.maxRetries() || !policy.retriesMethod(request.method())) return response;
+
+            final var code = response.code();
+            final var errorCode = policy.hasErrorCodes() ? Requests.peekErrorCode(response) : null;
+            if (!policy.shouldRetry(code, errorCode)) return response;
+
+            final var delay = policy.delayFor(attempt, code, response.header("Retry-After"));
+            if (delay < 0) return response;
+            response.close();
+            policy.recordRetry(errorCode != null && !policy.shouldRetry(code, null) ? errorCode : Integer.toString(code));
+
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry.");
+            }
+            attempt++;
+        }
+    }
+
+}
@@ -0,0 +1,272 @@
+package athena.util.request.retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Describes when and how requests are retried.
+ * Use {@link RetryPolicy.Builder} to create a new policy and pass it to {@link athena.Athena.Builder#retryPolicy(RetryPolicy)}
+ * <p>
+ * One policy can be shared between multiple athena instances, the per-host rate limits and retry counters are then shared too.
+ */
+public final class RetryPolicy {
+
+    /**
+     * Maximum amount of retries for a single request.
+     */
+    private final int maxRetries;
+    /**
+     * Base and maximum delay for the exponential backoff.
+     */
+    private final long baseDelayMillis, maxDelayMillis;
+    /**
+     * HTTP status codes and epic error codes to retry on.
+     */
+    private final Set<Integer> statusCodes;
+    private final Set<String> errorCodes;
+    /**
+     * HTTP methods that can be retried.
+     */
+    private final Set<String> methods;
+    /**
+     * The rate limit for each host, {@code permitsPerSecond} of {@code 0} disables rate limiting.
+     */
+    private final double permitsPerSecond;
+    private final int burst;
+
+    /**
+     * A token bucket for each host.
+     */
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    /**
+     * Retry counters by reason, either the HTTP status code or the epic error code.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> retries = new ConcurrentHashMap<>();
+    /**
+     * Total retries and total time spent waiting for the rate limit.
+     */
+    private final AtomicLong totalRetries = new AtomicLong(), throttledMillis = new AtomicLong();
+
+    private RetryPolicy(Builder builder) {
+        this.maxRetries = builder.maxRetries;
+        this.baseDelayMillis = builder.baseDelayMillis;
+        this.maxDelayMillis = builder.maxDelayMillis;
+        this.statusCodes = Set.copyOf(builder.statusCodes);
+        this.errorCodes = Set.copyOf(builder.errorCodes);
+        this.methods = Set.copyOf(builder.methods);
+        this.permitsPerSecond = builder.permitsPerSecond;
+        this.burst = builder.burst;
+    }
+
+    /**
+     * @return the maximum amount of retries for a single request.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return {@code true} if error codes should be read from error responses.
+     */
+    boolean hasErrorCodes() {
+        return !errorCodes.isEmpty();
+    }
+
+    /**
+     * @param method the HTTP method
+     * @return {@code true} if requests with {@code method} can be retried.
+     */
+    boolean retriesMethod(String method) {
+        return methods.contains(method);
+    }
+
+    /**
+     * Check if a response should be retried.
+     *
+     * @param statusCode the HTTP status code
+     * @param errorCode  the epic error code, or {@code null}
+     * @return {@code true} if so.
+     */
+    boolean shouldRetry(int statusCode, String errorCode) {
+        return statusCodes.contains(statusCode) || (errorCode != null && errorCodes.contains(errorCode));
+    }
+
+    /**
+     * Calculate how long to wait before the next attempt.
+     * {@code Retry-After} is honored for 429 and 503, otherwise exponential backoff with full jitter is used.
+     * If the server asks to wait longer than the maximum delay the request is not retried.
+     *
+     * @param attempt    the attempt, starting at 0.
+     * @param statusCode the HTTP status code
+     * @param retryAfter the value of the {@code Retry-After} header, or {@code null}
+     * @return the delay in milliseconds, or {@code -1} if the request should not be retried.
+     */
+    long delayFor(int attempt, int statusCode, String retryAfter) {
+        if ((statusCode == 429 || statusCode == 503) && retryAfter != null) {
+            final var millis = parseRetryAfter(retryAfter);
+            if (millis >= 0) return millis > maxDelayMillis ? -1 : millis;
+        }
+
+        final var ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Wait until a request to {@code host} is allowed by the rate limit.
+     *
+     * @param host the host
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    void acquire(String host) throws InterruptedException {
+        if (permitsPerSecond <= 0) return;
+        final var waited = buckets.computeIfAbsent(host, ignored -> new TokenBucket(permitsPerSecond, burst)).acquire();
+        if (waited > 0) throttledMillis.addAndGet(waited);
+    }
+
+    /**
+     * Record a retry.
+     *
+     * @param reason the reason, HTTP status code or epic error code.
+     */
+    void recordRetry(String reason) {
+        totalRetries.incrementAndGet();
+        retries.computeIfAbsent(reason, ignored -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * @return the total amount of retries.
+     */
+    public long totalRetries() {
+        return totalRetries.get();
+    }
+
+    /**
+     * @return the total amount of milliseconds requests have waited for the rate limit.
+     */
+    public long throttledMillis() {
+        return throttledMillis.get();
+    }
+
+    /**
+     * @return a snapshot of retries by reason, the key is either the HTTP status code or the epic error code.
+     */
+    public Map<String, Long> retries() {
+        final var map = new ConcurrentHashMap<String, Long>();
+        retries.forEach((reason, count) -> map.put(reason, count.get()));
+        return map;
+    }
+
+    /**
+     * Parse the {@code Retry-After} header, either delay-seconds or a HTTP-date.
+     *
+     * @param value the value
+     * @return the delay in milliseconds or {@code -1} if the value is invalid.
+     */
+    private static long parseRetryAfter(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            // not seconds, try a date.
+        }
+
+        try {
+            final var date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException exception) {
+            return -1;
+        }
+    }
+
+    /**
+     * Builder used to build this class.
+     * By default 429, 502, 503 and 504 are retried up to 3 times with no rate limit.
+     * Only GET, HEAD, PUT and DELETE requests are retried by default, other methods may have already taken effect, see {@link #retryOnMethod(String...)}
+     */
+    public static final class Builder {
+
+        private int maxRetries = 3;
+        private long baseDelayMillis = 250, maxDelayMillis = 30000;
+        private final Set<Integer> statusCodes = new HashSet<>(Set.of(429, 502, 503, 504));
+        private final Set<String> errorCodes = new HashSet<>();
+        private final Set<String> methods = new HashSet<>(Set.of("GET", "HEAD", "PUT", "DELETE"));
+        private double permitsPerSecond;
+        private int burst = 1;
+
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) throw new IllegalArgumentException("maxRetries cannot be negative.");
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder backoff(Duration base, Duration max) {
+            if (base.isNegative() || max.compareTo(base) < 0) throw new IllegalArgumentException("Invalid backoff range.");
+            this.baseDelayMillis = base.toMillis();
+            this.maxDelayMillis = max.toMillis();
+            return this;
+        }
+
+        public Builder retryOnStatus(int... statusCodes) {
+            for (var code : statusCodes) this.statusCodes.add(code);
+            return this;
+        }
+
+        public Builder noRetryOnStatus(int... statusCodes) {
+            for (var code : statusCodes) this.statusCodes.remove(code);
+            return this;
+        }
+
+        /**
+         * Retry when the error response contains the epic error code, ex: "errors.com.epicgames.common.server_error"
+         * Only use this for errors that are safe to retry without changing the request.
+         *
+         * @param errorCodes the error codes
+         * @return this
+         */
+        public Builder retryOnErrorCode(String... errorCodes) {
+            this.errorCodes.addAll(Set.of(errorCodes));
+            return this;
+        }
+
+        /**
+         * Also retry requests with these HTTP methods, ex: "POST"
+         * Only use this if every request with the method is safe to send twice,
+         * a 502 or 504 does not mean a party join, friend request or token grant did not happen.
+         *
+         * @param methods the methods
+         * @return this
+         */
+        public Builder retryOnMethod(String... methods) {
+            for (var method : methods) this.methods.add(method.toUpperCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Limit the amount of requests sent to each host.
+         *
+         * @param permitsPerSecond requests allowed per second
+         * @param burst            the amount of requests that can be sent at once.
+         * @return this
+         */
+        public Builder rateLimit(double permitsPerSecond, int burst) {
+            if (permitsPerSecond <= 0 || burst < 1) throw new IllegalArgumentException("Invalid rate limit.");
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+
+    }
+
+}
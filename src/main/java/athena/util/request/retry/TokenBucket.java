@@ -0,0 +1,49 @@
+package athena.util.request.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple token bucket used to rate limit requests to a single host.
+ */
+final class TokenBucket {
+
+    /**
+     * Tokens added per nanosecond and the maximum amount of tokens.
+     */
+    private final double tokensPerNano, capacity;
+
+    /**
+     * Current tokens and when they were last refilled.
+     */
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+    }
+
+    /**
+     * Take a token, waiting until one is available.
+     *
+     * @return how long was waited in milliseconds.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    long acquire() throws InterruptedException {
+        final long waitNanos;
+        synchronized (this) {
+            final var now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+
+            // reserve our token, going into debt if we have to wait.
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / tokensPerNano);
+        }
+
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+}
@@ -0,0 +1,63 @@
+package athena.util.thread;
+
+import com.google.common.flogger.FluentLogger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A utility class used to create executors.
+ */
+public final class ThreadExecutors {
+
+    /**
+     * The LOGGER.
+     */
+    private static final FluentLogger LOGGER = FluentLogger.forEnclosingClass();
+
+    /**
+     * Handle to {@code Executors.newVirtualThreadPerTaskExecutor} or {@code null} if the runtime has no virtual threads.
+     */
+    private static final MethodHandle VIRTUAL_THREAD_PER_TASK = findVirtualThreadPerTask();
+
+    /**
+     * @return {@code true} if the current runtime supports virtual threads.
+     */
+    public static boolean virtualThreadsSupported() {
+        return VIRTUAL_THREAD_PER_TASK != null;
+    }
+
+    /**
+     * Creates a new executor that starts a new virtual thread for each task.
+     * If the runtime does not support virtual threads a cached thread pool is returned instead.
+     *
+     * @return a new {@link ExecutorService}
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (VIRTUAL_THREAD_PER_TASK != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_PER_TASK.invokeExact();
+            } catch (Throwable throwable) {
+                LOGGER.atWarning().withCause(throwable).log("Failed to create a virtual thread executor, using a cached thread pool.");
+            }
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Find the virtual thread factory method.
+     *
+     * @return the method handle or {@code null}
+     */
+    private static MethodHandle findVirtualThreadPerTask() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+package athena.xmpp;
+
+import com.google.common.flogger.FluentLogger;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.jivesoftware.smack.StanzaListener;
+import org.jivesoftware.smack.XMPPConnection;
+import org.jivesoftware.smack.filter.StanzaTypeFilter;
+import org.jivesoftware.smack.packet.Message;
+import org.jivesoftware.smack.packet.Stanza;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The only stanza listener for messages on a connection.
+ * <p>
+ * The body of each normal message is parsed once, its {@code type} is read and the parsed object is given to the handlers registered for that type.
+ * Chat messages are given to the chat listeners as they are.
+ */
+public final class StanzaDispatcher implements StanzaListener {
+
+    /**
+     * The LOGGER.
+     */
+    private static final FluentLogger LOGGER = FluentLogger.forEnclosingClass();
+
+    /**
+     * The dispatcher for each connection.
+     */
+    private static final Map<XMPPConnection, StanzaDispatcher> INSTANCES = new WeakHashMap<>();
+
+    /**
+     * Handlers for each message type, keyed by the lower case type.
+     */
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<Handler>> handlers = new ConcurrentHashMap<>();
+    /**
+     * Chat message listeners.
+     */
+    private final CopyOnWriteArrayList<StanzaListener> chatListeners = new CopyOnWriteArrayList<>();
+
+    private StanzaDispatcher(XMPPConnection connection) {
+        connection.addAsyncStanzaListener(this, new StanzaTypeFilter(Message.class));
+    }
+
+    /**
+     * Get the dispatcher for {@code connection}, creating it if needed.
+     *
+     * @param connection the connection
+     * @return the {@link StanzaDispatcher}
+     */
+    public static synchronized StanzaDispatcher getInstanceFor(XMPPConnection connection) {
+        return INSTANCES.computeIfAbsent(connection, StanzaDispatcher::new);
+    }
+
+    /**
+     * Register a handler for messages with the type {@code type}, types are matched ignoring case.
+     *
+     * @param type    the type, ex: "com.epicgames.social.party.notification.v0.PING"
+     * @param handler the handler
+     */
+    public void register(String type, Handler handler) {
+        handlers.computeIfAbsent(type.toLowerCase(Locale.ROOT), ignored -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Unregister a handler.
+     *
+     * @param type    the type
+     * @param handler the handler
+     */
+    public void unregister(String type, Handler handler) {
+        handlers.computeIfPresent(type.toLowerCase(Locale.ROOT), (ignored, list) -> {
+            list.remove(handler);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * Add a listener for chat messages.
+     *
+     * @param listener the listener
+     */
+    public void addChatListener(StanzaListener listener) {
+        chatListeners.add(listener);
+    }
+
+    /**
+     * Remove a listener for chat messages.
+     *
+     * @param listener the listener
+     */
+    public void removeChatListener(StanzaListener listener) {
+        chatListeners.remove(listener);
+    }
+
+    @Override
+    public void processStanza(Stanza packet) {
+        final var message = (Message) packet;
+        if (message.getType() == Message.Type.chat) {
+            for (var listener : chatListeners) {
+                try {
+                    listener.processStanza(message);
+                } catch (Exception exception) {
+                    LOGGER.atWarning().withCause(exception).log("Chat listener failed to handle a message.");
+                }
+            }
+        } else if (message.getType() == Message.Type.normal) {
+            dispatch(message.getBody());
+        }
+    }
+
+    /**
+     * Parse {@code body} and give it to the handlers for its type.
+     *
+     * @param body the message body
+     */
+    private void dispatch(String body) {
+        if (body == null) return;
+
+        final JsonObject object;
+        try {
+            // some messages are arrays, those are not handled.
+            final var element = JsonParser.parseString(body);
+            if (!element.isJsonObject()) return;
+            object = element.getAsJsonObject();
+        } catch (JsonParseException exception) {
+            LOGGER.atFine().withCause(exception).log("Ignoring message that is not JSON.");
+            return;
+        }
+
+        // interactions are not handled.
+        if (object.has("interactions")) return;
+        final var type = object.get("type");
+        if (type == null || !type.isJsonPrimitive()) return;
+
+        final var handlers = this.handlers.get(type.getAsString().toLowerCase(Locale.ROOT));
+        if (handlers == null) {
+            LOGGER.atFine().log("No handler for message type " + type.getAsString());
+            return;
+        }
+
+        for (var handler : handlers) {
+            try {
+                handler.handle(object);
+            } catch (RuntimeException exception) {
+                LOGGER.atWarning().withCause(exception).log("Handler failed to handle message type " + type.getAsString());
+            }
+        }
+    }
+
+    /**
+     * Handles parsed messages of one type.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Handle a message
+         *
+         * @param object the parsed message body.
+         */
+        void handle(JsonObject object);
+
+    }
+
+}
@@ -5,8 +5,6 @@ import athena.types.Platform;
 import com.google.common.flogger.FluentLogger;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.jivesoftware.smack.*;
-import org.jivesoftware.smack.filter.StanzaTypeFilter;
-import org.jivesoftware.smack.packet.Message;
 import org.jivesoftware.smack.roster.Roster;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 import org.jivesoftware.smack.tcp.XMPPTCPConnectionConfiguration;
@@ -55,6 +53,12 @@ public final class XMPPConnectionManager implements ConnectionListener {
      * Configuration
      */
     private final boolean loadRoster, reconnectOnError, debug;
+    /**
+     * The XMPP host and port to connect to.
+     */
+    private final String host;
+    private final int port;
+    private final boolean tls;
 
     /**
      * Maps and lists for various different listeners.
@@ -71,6 +75,24 @@ public final class XMPPConnectionManager implements ConnectionListener {
     private PingManager pingManager;
 
     public XMPPConnectionManager(boolean loadRoster, boolean reconnectOnError, boolean debug, Platform platform, String application) {
+        this(loadRoster, reconnectOnError, debug, platform, application, XMPP_HOST, XMPP_PORT);
+    }
+
+    /**
+     * Connect to a different XMPP host, for example a local stand-in server.
+     * The XMPP domain stays {@link #XMPP_DOMAIN}
+     */
+    public XMPPConnectionManager(boolean loadRoster, boolean reconnectOnError, boolean debug, Platform platform, String application, String host, int port) {
+        this(loadRoster, reconnectOnError, debug, platform, application, host, port, true);
+    }
+
+    /**
+     * Connect to a different XMPP host, {@code tls} may only be {@code false} for local stand-in servers.
+     */
+    public XMPPConnectionManager(boolean loadRoster, boolean reconnectOnError, boolean debug, Platform platform, String application, String host, int port, boolean tls) {
+        this.host = host;
+        this.port = port;
+        this.tls = tls;
         this.loadRoster = loadRoster;
         this.reconnectOnError = reconnectOnError;
         this.debug = debug;
@@ -105,15 +127,18 @@ public final class XMPPConnectionManager implements ConnectionListener {
 
             if (debug) SmackConfiguration.DEBUG = true;
 
-            connection = new XMPPTCPConnection(
-                    XMPPTCPConnectionConfiguration.builder()
-                            .setXmppDomain(XMPP_DOMAIN)
-                            .setPort(XMPP_PORT)
-                            .setHost(XMPP_HOST)
-                            .setConnectTimeout(60000)
-                            .setResource(resource)
-                            .build());
-
+            final var configuration = XMPPTCPConnectionConfiguration.builder()
+                    .setXmppDomain(XMPP_DOMAIN)
+                    .setPort(port)
+                    .setHost(host)
+                    .setConnectTimeout(60000)
+                    .setResource(resource);
+            // local stand-in servers do not offer TLS, otherwise keep the smack default.
+            if (!tls) configuration.setSecurityMode(ConnectionConfiguration.SecurityMode.disabled);
+            connection = new XMPPTCPConnection(configuration.build());
+
+            // every message goes through one dispatcher.
+            StanzaDispatcher.getInstanceFor(connection);
             pingManager = PingManager.getInstanceFor(connection);
             pingManager.setPingInterval(60);
 
@@ -127,12 +152,6 @@ public final class XMPPConnectionManager implements ConnectionListener {
                 reconnection.enableAutomaticReconnection();
             }
 
-            // TODO: Debug purposes.
-            connection.addAsyncStanzaListener(stanza -> {
-                final var msg = (Message) stanza;
-                System.err.println(msg.getBody());
-            }, new StanzaTypeFilter(Message.class));
-
         } catch (final IOException | SmackException | XMPPException | InterruptedException exception) {
             throw EpicGamesErrorException.createFromOther(exception);
         }
@@ -209,6 +228,13 @@ public final class XMPPConnectionManager implements ConnectionListener {
         connectionErrorListeners.add(exceptionConsumer);
     }
 
+    /**
+     * @return the {@link StanzaDispatcher} for the connection.
+     */
+    public StanzaDispatcher dispatcher() {
+        return StanzaDispatcher.getInstanceFor(connection);
+    }
+
     /**
      * @return the {@link XMPPTCPConnection}
      */
@@ -0,0 +1,121 @@
+package athena;
+
+import athena.authentication.session.SessionStore;
+import athena.exception.EpicGamesErrorException;
+import athena.mock.MockEpicServices;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Logging in against {@link MockEpicServices}, without XMPP.
+ */
+public final class AthenaLoginTest {
+
+    private static final String OTHER_ACCOUNT_ID = "0d9c6e2f7a1b4c3d8e5f6a7b8c9d0e1f";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MockEpicServices services;
+
+    @Before
+    public void start() throws IOException {
+        services = MockEpicServices.start();
+        services.account(OTHER_ACCOUNT_ID, "other");
+    }
+
+    @After
+    public void stop() throws IOException {
+        services.close();
+    }
+
+    @Test
+    public void loginWithEmailAndPassword() {
+        final var athena = services.configure(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD)).build();
+        try {
+            assertEquals(MockEpicServices.ACCOUNT_ID, athena.accountId());
+            assertEquals(MockEpicServices.DISPLAY_NAME, athena.displayName());
+            assertEquals("eg1~" + MockEpicServices.ACCOUNT_ID, athena.session().accessToken());
+            assertNull(athena.chat());
+            assertNull(athena.party());
+
+            assertEquals(1, services.count("GET", "/id/csrf"));
+            assertEquals(1, services.count("POST", "/id/login"));
+            assertEquals(1, services.count("POST", "/id/exchange/generate"));
+            assertEquals(1, services.count("POST", "/account/account/api/oauth/token"));
+            assertEquals(1, services.count("GET", "/account/account/api/public/account"));
+        } finally {
+            athena.close();
+        }
+        // the token is killed when closing.
+        assertEquals(1, services.count("DELETE", "/account/account/api/oauth/sessions/kill/eg1~" + MockEpicServices.ACCOUNT_ID));
+    }
+
+    @Test
+    public void loginWithDeviceAuth() {
+        final var athena = services.configure(new Athena.Builder().useDeviceAuth(OTHER_ACCOUNT_ID, "device", "secret")).build();
+        try {
+            assertEquals(OTHER_ACCOUNT_ID, athena.accountId());
+            assertEquals("other", athena.displayName());
+            // device auth skips the login form.
+            assertEquals(0, services.count("GET", "/id/csrf"));
+            assertEquals(1, services.count("POST", "/account/account/api/oauth/token"));
+        } finally {
+            athena.close();
+        }
+    }
+
+    @Test
+    public void loginWithWrongPasswordFails() {
+        try {
+            services.configure(new Athena.Builder(MockEpicServices.EMAIL, "wrong")).build().close();
+            fail("Logged in with the wrong password.");
+        } catch (EpicGamesErrorException exception) {
+            assertEquals("errors.com.epicgames.accountportal.invalid_credentials", exception.errorCode());
+        }
+        assertEquals(0, services.count("POST", "/account/account/api/oauth/token"));
+    }
+
+    @Test
+    public void storedSessionIsRestoredForTheSameLogin() throws IOException {
+        final var store = SessionStore.encrypted(folder.getRoot().toPath().resolve("session"), "passphrase".toCharArray());
+        services.configure(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD)).sessionStore(store).build().close();
+        assertEquals(1, services.count("POST", "/account/account/api/oauth/token"));
+
+        final var restored = services.configure(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD)).sessionStore(store).build();
+        try {
+            assertEquals(MockEpicServices.ACCOUNT_ID, restored.accountId());
+            assertEquals(1, services.count("GET", "/id/csrf"));
+            assertEquals(1, services.count("POST", "/account/account/api/oauth/token"));
+            assertEquals(1, services.count("GET", "/account/account/api/oauth/verify"));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void storedSessionIsNotRestoredForAnotherLogin() throws IOException {
+        final var store = SessionStore.encrypted(folder.getRoot().toPath().resolve("session"), "passphrase".toCharArray());
+        services.configure(new Athena.Builder().useDeviceAuth(OTHER_ACCOUNT_ID, "device", "secret")).sessionStore(store).build().close();
+
+        // an email login does not know its account ID up front, the stored session must not be used for it.
+        final var other = services.configure(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD)).sessionStore(store).build();
+        try {
+            assertEquals(MockEpicServices.ACCOUNT_ID, other.accountId());
+            assertEquals(2, services.count("POST", "/account/account/api/oauth/token"));
+            assertEquals(0, services.count("GET", "/account/account/api/oauth/verify"));
+        } finally {
+            other.close();
+        }
+    }
+
+}
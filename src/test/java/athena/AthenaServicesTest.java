@@ -0,0 +1,102 @@
+package athena;
+
+import athena.exception.EpicGamesErrorException;
+import athena.friend.resource.types.FriendStatus;
+import athena.mock.MockEpicServices;
+import athena.types.Input;
+import athena.util.request.Requests;
+import com.google.gson.JsonObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Stats, friends, events and party lookups against {@link MockEpicServices}, without XMPP.
+ */
+public final class AthenaServicesTest {
+
+    private static final String FRIEND_ACCOUNT_ID = "0d9c6e2f7a1b4c3d8e5f6a7b8c9d0e1f";
+
+    private MockEpicServices services;
+    private Athena athena;
+
+    @Before
+    public void start() throws IOException {
+        services = MockEpicServices.start();
+        services.account(FRIEND_ACCOUNT_ID, "friend");
+        athena = services.configure(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD)).build();
+    }
+
+    @After
+    public void stop() throws IOException {
+        if (athena != null) athena.close();
+        services.close();
+    }
+
+    @Test
+    public void stats() {
+        final var stats = athena.statisticsV2().stats(FRIEND_ACCOUNT_ID);
+        final var keyboardMouse = stats.filterByInput(Input.KEYBOARD_AND_MOUSE);
+        assertEquals(12, keyboardMouse.kills());
+        assertEquals(1, keyboardMouse.wins());
+        assertEquals(3, stats.filterByInput(Input.GAMEPAD).kills());
+        assertEquals(1, services.count("GET", "/statsproxy/statsproxy/api/statsv2/account/" + FRIEND_ACCOUNT_ID));
+
+        try {
+            athena.statisticsV2().stats("unknown");
+            fail("Found stats for an unknown account.");
+        } catch (EpicGamesErrorException exception) {
+            assertEquals("errors.com.epicgames.statsproxy.account_not_found", exception.errorCode());
+        }
+    }
+
+    @Test
+    public void friends() {
+        final var friends = athena.friend().friends(false);
+        assertEquals(1, friends.size());
+
+        final var friend = friends.get(0);
+        assertEquals(FRIEND_ACCOUNT_ID, friend.accountId());
+        assertEquals(FriendStatus.ACCEPTED, friend.status());
+        assertEquals(Instant.parse("2020-06-01T12:00:00Z"), friend.created());
+        // the account lookup goes through the injected accounts provider.
+        assertEquals("friend", friend.account().displayName());
+        assertEquals(List.of(), athena.friend().blocked());
+    }
+
+    @Test
+    public void events() {
+        final var player = athena.events().player();
+        assertEquals(MockEpicServices.ACCOUNT_ID, player.accountId());
+        assertEquals(List.of("ARENA_S13_Division1"), player.tokens());
+
+        final var download = athena.events().downloadData("EU", false);
+        assertEquals(MockEpicServices.ACCOUNT_ID, download.player().accountId());
+        assertTrue(download.events().isEmpty());
+    }
+
+    @Test
+    public void party() {
+        final var party = Requests.executeCall(athena.partyService().createParty(new JsonObject()));
+        assertEquals(MockEpicServices.ACCOUNT_ID, party.leader().accountId());
+        assertEquals("Public", party.privacySettings().partyType());
+        assertEquals(16, party.maxSize());
+
+        final var fetched = Requests.executeCall(athena.partyService().getParty(party.partyId()));
+        assertEquals(party.partyId(), fetched.partyId());
+        assertEquals(party.partyId(), Requests.executeCall(athena.partyService().userData(MockEpicServices.ACCOUNT_ID)).current().partyId());
+
+        Requests.executeVoidCall(athena.partyService().leaveParty(party.partyId(), MockEpicServices.ACCOUNT_ID));
+        assertNull(Requests.executeCall(athena.partyService().userData(MockEpicServices.ACCOUNT_ID)).current());
+    }
+
+}
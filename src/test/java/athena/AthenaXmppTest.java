@@ -0,0 +1,103 @@
+package athena;
+
+import athena.chat.resource.BasicMessage;
+import athena.friend.xmpp.event.events.FriendAcceptedEvent;
+import athena.friend.xmpp.listener.FriendEventListener;
+import athena.mock.MockEpicServices;
+import athena.mock.MockXmppServer;
+import athena.types.Platform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Two accounts logged in against {@link MockEpicServices} and connected to a {@link MockXmppServer}
+ */
+public final class AthenaXmppTest {
+
+    private static final String FRIEND_ACCOUNT_ID = "0d9c6e2f7a1b4c3d8e5f6a7b8c9d0e1f";
+
+    private MockEpicServices services;
+    private MockXmppServer xmpp;
+    private Athena athena, friend;
+
+    @Before
+    public void start() throws IOException {
+        services = MockEpicServices.start();
+        services.account(FRIEND_ACCOUNT_ID, "friend");
+        xmpp = MockXmppServer.start();
+
+        athena = build(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD));
+        friend = build(new Athena.Builder().useDeviceAuth(FRIEND_ACCOUNT_ID, "device", "secret"));
+    }
+
+    @After
+    public void stop() throws IOException {
+        if (athena != null) athena.close();
+        if (friend != null) friend.close();
+        xmpp.close();
+        services.close();
+    }
+
+    private Athena build(Athena.Builder builder) {
+        return services.configure(builder)
+                .enableXmpp()
+                .platform(Platform.WIN)
+                .app("Fortnite")
+                .xmppHost(xmpp.host(), xmpp.port(), false)
+                .build();
+    }
+
+    @Test
+    public void connectsToXmpp() {
+        assertTrue(athena.connection().isAuthenticated());
+        assertTrue(xmpp.isConnected(MockEpicServices.ACCOUNT_ID));
+        assertTrue(xmpp.isConnected(FRIEND_ACCOUNT_ID));
+    }
+
+    @Test
+    public void messageRoundTrip() throws InterruptedException {
+        final BlockingQueue<BasicMessage> replies = new LinkedBlockingQueue<>();
+        athena.chat().onMessage(replies::add);
+        friend.chat().onMessage(message -> message.reply("pong: " + message.message()));
+
+        athena.chat().sendMessage(FRIEND_ACCOUNT_ID, "ping");
+
+        final var reply = replies.poll(10, TimeUnit.SECONDS);
+        assertNotNull("No reply was received.", reply);
+        assertEquals("pong: ping", reply.message());
+        assertEquals(FRIEND_ACCOUNT_ID, reply.accountId());
+
+        // both messages went through the server.
+        assertTrue(xmpp.takeMessage(1, TimeUnit.SECONDS).contains("<body>ping</body>"));
+        assertTrue(xmpp.takeMessage(1, TimeUnit.SECONDS).contains("<body>pong: ping</body>"));
+    }
+
+    @Test
+    public void friendNotification() throws InterruptedException {
+        final BlockingQueue<FriendAcceptedEvent> events = new LinkedBlockingQueue<>();
+        athena.friend().registerEventListener(new FriendEventListener() {
+            @Override
+            public void friendAccepted(FriendAcceptedEvent event) {
+                events.add(event);
+            }
+        });
+
+        xmpp.notify(MockEpicServices.ACCOUNT_ID, "{\"type\":\"FRIENDSHIP_REQUEST\",\"timestamp\":\"2020-06-01T12:00:00.000Z\","
+                + "\"from\":\"" + FRIEND_ACCOUNT_ID + "\",\"to\":\"" + MockEpicServices.ACCOUNT_ID + "\",\"status\":\"ACCEPTED\"}");
+
+        final var event = events.poll(10, TimeUnit.SECONDS);
+        assertNotNull("No friend event was received.", event);
+        assertEquals(FRIEND_ACCOUNT_ID, event.accountId());
+    }
+
+}
@@ -0,0 +1,131 @@
+package athena;
+
+import athena.account.resource.Account;
+import athena.account.resource.AccountTypeAdapter;
+import athena.friend.resource.Friend;
+import athena.friend.resource.FriendTypeAdapter;
+import athena.mock.MockEpicServices;
+import athena.party.resource.Party;
+import athena.party.resource.PartyTypeAdapter;
+import athena.party.resource.member.PartyMember;
+import athena.party.resource.member.PartyMemberTypeAdapter;
+import athena.party.resource.member.meta.PartyMemberMeta;
+import athena.party.resource.member.meta.PartyMemberMetaTypeAdapter;
+import athena.party.resource.meta.PartyMeta;
+import athena.party.resource.meta.PartyMetaTypeAdapter;
+import athena.presence.resource.FortnitePresence;
+import athena.presence.resource.FortnitePresenceTypeAdapter;
+import athena.util.json.request.Requestable;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Before;
+import org.junit.Test;
+import org.jxmpp.jid.impl.JidCreate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The generated streaming adapters against GSON's reflective adapters, both must read and write the same JSON.
+ */
+public final class StreamingAdaptersTest {
+
+    private final List<Object> failed = new ArrayList<>();
+    private Gson generated, reflective;
+
+    @Before
+    public void create() {
+        generated = AthenaImpl.createGson(Requestable.allOf(null, AthenaImpl.REQUESTABLE_TYPES), (value, cause) -> failed.add(value));
+        reflective = AthenaImpl.createReflectiveGson(Requestable.allOf(null, AthenaImpl.REQUESTABLE_TYPES), null);
+    }
+
+    @Test
+    public void generatedAdaptersAreUsed() {
+        assertTrue(generated.getAdapter(Account.class) instanceof AccountTypeAdapter);
+        assertTrue(generated.getAdapter(Friend.class) instanceof FriendTypeAdapter);
+        assertTrue(generated.getAdapter(Party.class) instanceof PartyTypeAdapter);
+        assertTrue(generated.getAdapter(PartyMember.class) instanceof PartyMemberTypeAdapter);
+        assertTrue(generated.getAdapter(PartyMeta.class) instanceof PartyMetaTypeAdapter);
+        assertTrue(generated.getAdapter(PartyMemberMeta.class) instanceof PartyMemberMetaTypeAdapter);
+        assertTrue(generated.getAdapter(FortnitePresence.class) instanceof FortnitePresenceTypeAdapter);
+    }
+
+    @Test
+    public void resources() {
+        assertEquivalent(Account.class, MockEpicServices.fixture("account").replace("${accountId}", MockEpicServices.ACCOUNT_ID).replace("${displayName}", "athena"));
+        assertEquivalent(Friend.class, MockEpicServices.fixture("friend").replace("${accountId}", MockEpicServices.ACCOUNT_ID));
+        assertEquivalent(Party.class, MockEpicServices.fixture("party").replace("${partyId}", "party").replace("${accountId}", MockEpicServices.ACCOUNT_ID));
+    }
+
+    @Test
+    public void wrappedValues() {
+        final var meta = new JsonObject();
+        meta.addProperty("PartyMatchmakingInfo_j", "{\"PartyMatchmakingInfo\":{\"buildId\":-1,\"hotfixVersion\":-1,\"regionId\":\"\",\"playlistName\":\"None\"}}");
+        meta.addProperty("PlatformSessions_j", "{\"PlatformSessions\":[]}");
+        meta.addProperty("PrivacySettings_j", "{\"PrivacySettings\":{\"partyType\":\"Public\",\"partyInviteRestriction\":\"AnyMember\",\"bOnlyLeaderFriendsCanJoin\":false}}");
+        meta.addProperty("RawSquadAssignments_j", "{\"RawSquadAssignments\":[{\"memberId\":\"a\",\"absoluteMemberIdx\":0},{\"memberId\":\"b\",\"absoluteMemberIdx\":1}]}");
+        meta.addProperty("LFGTime_s", "0001-01-01T00:00:00.000Z");
+        meta.addProperty("urn:epic:cfg:accepting-members_b", "true");
+        assertEquivalent(PartyMeta.class, meta.toString());
+
+        final var memberMeta = new JsonObject();
+        memberMeta.addProperty("BattlePassInfo_j", "{\"BattlePassInfo\":{\"bHasPurchasedPass\":false,\"passLevel\":1,\"selfBoostXp\":0,\"friendBoostXp\":0}}");
+        memberMeta.addProperty("Platform_j", "{\"Platform\":{\"platformStr\":\"WIN\"}}");
+        memberMeta.addProperty("urn:epic:member:dn_s", "athena");
+        memberMeta.addProperty("CurrentInputType_s", "MouseAndKeyboard");
+        memberMeta.addProperty("UtcTimeStartedMatchAthena_s", "0001-01-01T00:00:00.000Z");
+        assertEquivalent(PartyMemberMeta.class, memberMeta.toString());
+    }
+
+    @Test
+    public void presence() throws Exception {
+        final var from = JidCreate.from(MockEpicServices.ACCOUNT_ID + "@prod.ol.epicgames.com/V2:Fortnite:WIN::0");
+        final var json = "{\"Status\":\"Battle Royale Lobby - 1 / 16\",\"bIsPlaying\":true,\"bIsJoinable\":\"true\",\"bHasVoiceSupport\":false,"
+                + "\"SessionId\":\"\",\"ProductName\":\"Fortnite\",\"Properties\":{\"FortBasicInfo_j\":{\"homeBaseRating\":1}}}";
+        assertEquals(reflective.toJsonTree(FortnitePresence.of(reflective, from, json)), generated.toJsonTree(FortnitePresence.of(generated, from, json)));
+        assertEquals(reflective.toJsonTree(FortnitePresence.of(generated, from, json)), generated.toJsonTree(FortnitePresence.of(reflective, from, json)));
+    }
+
+    @Test
+    public void nullAndUnknownValues() {
+        assertEquivalent(Party.class, "{\"id\":null,\"revision\":null,\"members\":null,\"unknown\":{\"values\":[1,2]}}");
+        assertEquivalent(Friend.class, "{\"accountId\":\"a\",\"favorite\":null}");
+    }
+
+    @Test
+    public void malformedValues() {
+        for (var gson : List.of(generated, reflective)) {
+            try {
+                gson.fromJson("{\"revision\":\"one\"}", Party.class);
+                fail("Read a malformed revision.");
+            } catch (JsonSyntaxException expected) {
+                // not a number.
+            }
+        }
+    }
+
+    @Test
+    public void hookFailuresGoToTheErrorHandler() {
+        // too long for the local part of a JID.
+        final var account = generated.fromJson("{\"id\":\"" + "a".repeat(1024) + "\"}", Account.class);
+        assertEquals(List.of(account), failed);
+    }
+
+    /**
+     * Assert both adapters read {@code json} into the same values and write them the same way.
+     */
+    private void assertEquivalent(Class<?> type, String json) {
+        final var fromGenerated = generated.fromJson(json, type);
+        final var fromReflective = reflective.fromJson(json, type);
+        // what was read
+        assertEquals(reflective.toJsonTree(fromReflective), reflective.toJsonTree(fromGenerated));
+        // how it is written
+        assertEquals(reflective.toJsonTree(fromReflective), generated.toJsonTree(fromReflective));
+    }
+
+}
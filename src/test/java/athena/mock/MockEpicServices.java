@@ -0,0 +1,401 @@
+package athena.mock;
+
+import athena.Athena;
+import athena.account.service.AccountPublicService;
+import athena.authentication.service.AuthenticationService;
+import athena.channels.service.ChannelsPublicService;
+import athena.eula.service.EulatrackingPublicService;
+import athena.events.service.EventsPublicService;
+import athena.fortnite.service.FortnitePublicService;
+import athena.friend.service.FriendsPublicService;
+import athena.groups.service.GroupsService;
+import athena.party.service.PartyService;
+import athena.presence.service.PresencePublicService;
+import athena.stats.service.StatsproxyPublicService;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link MockWebServer} standing in for every Retrofit service in {@code athena.*.service}
+ * Each service is served under its own path prefix, ex: {@code /account/} for {@link AccountPublicService}, use {@link #configure(Athena.Builder)} to point a builder at it.
+ * <p>
+ * The endpoints used for logging in and the common stats, friends, events and party endpoints are answered from the fixtures in {@code src/test/resources/athena/mock},
+ * other endpoints can be added with {@link #on(String, String, Function)}
+ * Every known account is friends with every other known account, parties live until their captain leaves or disbands them.
+ * Anything else is answered with a 404 and an epic games error body.
+ */
+public final class MockEpicServices extends Dispatcher implements Closeable {
+
+    /**
+     * The default account, logged in with {@link #EMAIL} and {@link #PASSWORD}
+     */
+    public static final String ACCOUNT_ID = "b3e5b1c0c1e0471e9a3c5d1c9c8f7a61", DISPLAY_NAME = "athena", EMAIL = "athena@example.com", PASSWORD = "hunter2";
+    /**
+     * The XSRF token set by the csrf endpoint.
+     */
+    public static final String XSRF_TOKEN = "f2b1a8c0e3d94d6c9a1b7e5d4c3b2a10";
+
+    /**
+     * The path prefix of each service.
+     */
+    private static final Map<Class<?>, String> SERVICES = Map.ofEntries(
+            Map.entry(AccountPublicService.class, "account"),
+            Map.entry(AuthenticationService.class, "id"),
+            Map.entry(ChannelsPublicService.class, "channels"),
+            Map.entry(EulatrackingPublicService.class, "eulatracking"),
+            Map.entry(EventsPublicService.class, "events"),
+            Map.entry(FortnitePublicService.class, "fortnite"),
+            Map.entry(FriendsPublicService.class, "friends"),
+            Map.entry(GroupsService.class, "groups"),
+            Map.entry(PartyService.class, "party"),
+            Map.entry(PresencePublicService.class, "presence"),
+            Map.entry(StatsproxyPublicService.class, "statsproxy"));
+
+    private static final Pattern FIELD = Pattern.compile("(?:^|&)([^=&]+)=([^&]*)");
+    private static final Pattern PARTY = Pattern.compile("/party/party/api/v1/Fortnite/parties/([^/]+).*");
+
+    private final MockWebServer server = new MockWebServer();
+    /**
+     * Routes, in the order they were added.
+     */
+    private final CopyOnWriteArrayList<Route> routes = new CopyOnWriteArrayList<>();
+    /**
+     * Every request received.
+     */
+    private final CopyOnWriteArrayList<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    /**
+     * Display names by account ID, every account can log in with device auth.
+     */
+    private final Map<String, String> accounts = new ConcurrentHashMap<>();
+    /**
+     * The captain account ID of each party by party ID.
+     */
+    private final Map<String, String> parties = new ConcurrentHashMap<>();
+
+    private MockEpicServices() throws IOException {
+        accounts.put(ACCOUNT_ID, DISPLAY_NAME);
+        loginRoutes();
+        statsRoutes();
+        friendsRoutes();
+        eventsRoutes();
+        partyRoutes();
+        server.setDispatcher(this);
+        server.start();
+    }
+
+    /**
+     * Start a new server on a random local port.
+     *
+     * @return the server
+     * @throws IOException if the server could not be started.
+     */
+    public static MockEpicServices start() throws IOException {
+        return new MockEpicServices();
+    }
+
+    /**
+     * Point every service of {@code builder} at this server.
+     *
+     * @param builder the builder
+     * @return the builder
+     */
+    public Athena.Builder configure(Athena.Builder builder) {
+        SERVICES.keySet().forEach(service -> builder.baseUrl(service, url(service).toString()));
+        return builder;
+    }
+
+    /**
+     * @param service the service
+     * @return the base URL of {@code service}
+     */
+    public HttpUrl url(Class<?> service) {
+        return server.url("/" + SERVICES.get(service) + "/");
+    }
+
+    /**
+     * Add an account that can log in with device auth.
+     *
+     * @param accountId   the account ID
+     * @param displayName the display name
+     */
+    public void account(String accountId, String displayName) {
+        accounts.put(accountId, displayName);
+    }
+
+    /**
+     * Answer requests to an endpoint, routes added later take precedence.
+     *
+     * @param method   the HTTP method
+     * @param path     a regular expression matching the path without the query, ex: {@code /account/account/api/public/account/[^/]+}
+     * @param response creates the response
+     */
+    public void on(String method, String path, Function<RecordedRequest, MockResponse> response) {
+        routes.add(0, new Route(method, Pattern.compile(path), response));
+    }
+
+    /**
+     * @return every request received so far.
+     */
+    public List<RecordedRequest> requests() {
+        return List.copyOf(requests);
+    }
+
+    /**
+     * @param method the HTTP method
+     * @param path   the path without the query
+     * @return the amount of requests received for the endpoint.
+     */
+    public long count(String method, String path) {
+        return requests.stream().filter(request -> method.equals(request.getMethod()) && path.equals(pathOf(request))).count();
+    }
+
+    @NotNull
+    @Override
+    public MockResponse dispatch(@NotNull RecordedRequest request) {
+        requests.add(request);
+        final var path = pathOf(request);
+        for (var route : routes) {
+            if (route.method.equals(request.getMethod()) && route.path.matcher(path).matches()) return route.response.apply(request);
+        }
+        return json(404, "{\"errorCode\":\"errors.com.epicgames.common.not_found\",\"errorMessage\":\"No route for " + request.getMethod() + " " + path + "\"}");
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * The endpoints used by {@link Athena.Builder#build()}
+     */
+    private void loginRoutes() {
+        // email and password, see FortniteAuthenticationManager#authenticate
+        on("GET", "/id/csrf", request -> new MockResponse().setResponseCode(204).addHeader("Set-Cookie", "XSRF-TOKEN=" + XSRF_TOKEN + "; Path=/"));
+        on("GET", "/id/reputation", request -> json(200, fixture("reputation")));
+        on("POST", "/id/login", request -> {
+            final var fields = fields(request);
+            if (!XSRF_TOKEN.equals(request.getHeader("x-xsrf-token"))) return json(403, fixture("error").replace("${errorCode}", "errors.com.epicgames.accountportal.csrf_token_invalid"));
+            if (!EMAIL.equals(fields.get("email")) || !PASSWORD.equals(fields.get("password"))) return json(400, fixture("error").replace("${errorCode}", "errors.com.epicgames.accountportal.invalid_credentials"));
+            return new MockResponse().setResponseCode(204);
+        });
+        on("POST", "/id/exchange/generate", request -> json(200, fixture("exchange")));
+
+        on("POST", "/account/account/api/oauth/token", request -> {
+            final var fields = fields(request);
+            final var accountId = "device_auth".equals(fields.get("grant_type")) ? fields.get("account_id") : ACCOUNT_ID;
+            if (accountId == null || !accounts.containsKey(accountId)) return json(400, fixture("error").replace("${errorCode}", "errors.com.epicgames.account.invalid_account_credentials"));
+            return json(200, fixture("token").replace("${accountId}", accountId));
+        });
+        on("GET", "/account/account/api/oauth/verify", request -> new MockResponse().setResponseCode(204));
+        on("DELETE", "/account/account/api/oauth/sessions/kill(/[^/]+)?", request -> new MockResponse().setResponseCode(204));
+        on("GET", "/account/account/api/public/account", request -> {
+            final var accountId = request.getRequestUrl().queryParameter("accountId");
+            if (!accounts.containsKey(accountId)) return json(200, "[]");
+            return json(200, "[" + fixture("account").replace("${accountId}", accountId).replace("${displayName}", accounts.get(accountId)) + "]");
+        });
+    }
+
+    /**
+     * {@link StatsproxyPublicService}
+     */
+    private void statsRoutes() {
+        on("GET", "/statsproxy/statsproxy/api/statsv2/account/[^/]+", request -> {
+            final var accountId = lastSegment(request);
+            if (!accounts.containsKey(accountId)) return notFound("errors.com.epicgames.statsproxy.account_not_found");
+            return json(200, fixture("stats").replace("${accountId}", accountId));
+        });
+    }
+
+    /**
+     * {@link FriendsPublicService}
+     */
+    private void friendsRoutes() {
+        on("GET", "/friends/friends/api/public/friends/[^/]+", request -> {
+            final var accountId = lastSegment(request);
+            final var friends = accounts.keySet().stream()
+                    .filter(friend -> !friend.equals(accountId))
+                    .sorted()
+                    .map(friend -> fixture("friend").replace("${accountId}", friend))
+                    .collect(Collectors.joining(",", "[", "]"));
+            return json(200, friends);
+        });
+        on("GET", "/friends/friends/api/v1/[^/]+/blocklist", request -> json(200, "[]"));
+        on("POST", "/friends/friends/api/v1/[^/]+/friends/[^/]+", request -> new MockResponse().setResponseCode(204));
+        on("DELETE", "/friends/friends/api/v1/[^/]+/friends/[^/]+", request -> new MockResponse().setResponseCode(204));
+    }
+
+    /**
+     * {@link EventsPublicService}
+     */
+    private void eventsRoutes() {
+        on("GET", "/events/api/v1/players/Fortnite/[^/]+", request -> json(200, fixture("event_player").replace("${accountId}", lastSegment(request))));
+        on("GET", "/events/api/v1/events/Fortnite/(download|data)/[^/]+", request -> {
+            final var player = fixture("event_player").replace("${accountId}", lastSegment(request));
+            return json(200, fixture("events").replace("${player}", player));
+        });
+    }
+
+    /**
+     * {@link PartyService}
+     */
+    private void partyRoutes() {
+        on("POST", "/party/party/api/v1/Fortnite/parties", request -> {
+            final var partyId = UUID.randomUUID().toString().replace("-", "");
+            final var accountId = accountOf(request);
+            parties.put(partyId, accountId);
+            return json(200, party(partyId, accountId));
+        });
+        on("GET", "/party/party/api/v1/Fortnite/parties/[^/]+", request -> {
+            final var partyId = partyOf(request);
+            final var captain = parties.get(partyId);
+            return captain == null ? notFound("errors.com.epicgames.social.party.party_not_found") : json(200, party(partyId, captain));
+        });
+        on("PATCH", "/party/party/api/v1/Fortnite/parties/[^/]+(/members/[^/]+/meta)?", request -> new MockResponse().setResponseCode(204));
+        on("DELETE", "/party/party/api/v1/Fortnite/parties/[^/]+", request -> {
+            parties.remove(partyOf(request));
+            return new MockResponse().setResponseCode(204);
+        });
+        on("DELETE", "/party/party/api/v1/Fortnite/parties/[^/]+/members/[^/]+", request -> {
+            // the party is gone once the captain leaves.
+            parties.remove(partyOf(request), lastSegment(request));
+            return new MockResponse().setResponseCode(204);
+        });
+        on("GET", "/party/party/api/v1/Fortnite/user/[^/]+", request -> {
+            final var accountId = lastSegment(request);
+            final var current = parties.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(accountId))
+                    .map(entry -> party(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.joining(","));
+            return json(200, fixture("user_parties").replace("${current}", current));
+        });
+    }
+
+    /**
+     * @param partyId the party ID
+     * @param captain the account ID of the captain
+     * @return the party JSON
+     */
+    private static String party(String partyId, String captain) {
+        return fixture("party").replace("${partyId}", partyId).replace("${accountId}", captain);
+    }
+
+    /**
+     * @param errorCode the error code
+     * @return a 404 response with an epic games error body.
+     */
+    private static MockResponse notFound(String errorCode) {
+        return json(404, fixture("error").replace("${errorCode}", errorCode));
+    }
+
+    /**
+     * @param request the request
+     * @return the account ID of the bearer token, see {@code token.json}
+     */
+    private static String accountOf(RecordedRequest request) {
+        final var authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.contains("eg1~")) return null;
+        return authorization.substring(authorization.indexOf("eg1~") + 4);
+    }
+
+    /**
+     * @param request a request to a party endpoint
+     * @return the party ID
+     */
+    private static String partyOf(RecordedRequest request) {
+        final var matcher = PARTY.matcher(pathOf(request));
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * @param request the request
+     * @return the last segment of the path, usually an account ID.
+     */
+    private static String lastSegment(RecordedRequest request) {
+        final var path = pathOf(request);
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * @param request the request
+     * @return the path without the query.
+     */
+    private static String pathOf(RecordedRequest request) {
+        final var path = request.getPath();
+        final var query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+
+    /**
+     * @param request a form encoded request
+     * @return the decoded fields.
+     */
+    private static Map<String, String> fields(RecordedRequest request) {
+        final var fields = new HashMap<String, String>();
+        final var matcher = FIELD.matcher(request.getBody().clone().readUtf8());
+        while (matcher.find()) fields.put(decode(matcher.group(1)), decode(matcher.group(2)));
+        return fields;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param code the status code
+     * @param body the body
+     * @return a JSON response
+     */
+    public static MockResponse json(int code, String body) {
+        return new MockResponse().setResponseCode(code).setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    /**
+     * Read a fixture from {@code src/test/resources/athena/mock}
+     *
+     * @param name the name without ".json"
+     * @return the contents
+     */
+    public static String fixture(String name) {
+        try (InputStream stream = MockEpicServices.class.getResourceAsStream(name + ".json")) {
+            if (stream == null) throw new IllegalArgumentException("No fixture named " + name);
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * A single endpoint.
+     */
+    private static final class Route {
+        private final String method;
+        private final Pattern path;
+        private final Function<RecordedRequest, MockResponse> response;
+
+        private Route(String method, Pattern path, Function<RecordedRequest, MockResponse> response) {
+            this.method = method;
+            this.path = path;
+            this.response = response;
+        }
+    }
+
+}
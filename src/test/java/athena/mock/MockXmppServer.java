@@ -0,0 +1,356 @@
+package athena.mock;
+
+import athena.xmpp.XMPPConnectionManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * A minimal local XMPP server for tests, enough for Smack to connect, login and exchange stanzas.
+ * SASL PLAIN is accepted for any account and token, TLS is not offered so connect with {@code Athena.Builder#xmppHost(host, port, false)}
+ * <p>
+ * Messages sent by clients are routed to the other clients of the recipient and recorded, see {@link #takeMessage(long, TimeUnit)}
+ * Notifications like party, friend and presence stanzas can be pushed with {@link #notify(String, String)} and {@link #send(String, String)}
+ */
+public final class MockXmppServer implements Closeable {
+
+    private static final String DOMAIN = XMPPConnectionManager.XMPP_DOMAIN;
+    /**
+     * The JID notifications are sent from.
+     */
+    public static final String ADMIN = "xmpp-admin@" + DOMAIN;
+
+    private static final Pattern ID = Pattern.compile("\\sid=['\"]([^'\"]*)['\"]");
+    private static final Pattern TYPE = Pattern.compile("\\stype=['\"]([^'\"]*)['\"]");
+    private static final Pattern TO = Pattern.compile("\\sto=['\"]([^'\"]*)['\"]");
+    private static final Pattern RESOURCE = Pattern.compile("<resource>([^<]*)</resource>");
+    private static final Pattern AUTH = Pattern.compile("<auth[^>]*>([^<]*)</auth>");
+
+    /**
+     * The server socket.
+     */
+    private final ServerSocket serverSocket;
+    /**
+     * Every authenticated and bound client.
+     */
+    private final CopyOnWriteArrayList<Client> clients = new CopyOnWriteArrayList<>();
+    /**
+     * Every message and presence sent by a client, with the from attribute set.
+     */
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>(), presences = new LinkedBlockingQueue<>();
+
+    private MockXmppServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        final var acceptor = new Thread(this::accept, "MockXmppServer");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Start a new server on a random local port.
+     *
+     * @return the server
+     * @throws IOException if the server could not be started.
+     */
+    public static MockXmppServer start() throws IOException {
+        return new MockXmppServer();
+    }
+
+    /**
+     * @return the host to connect to.
+     */
+    public String host() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    /**
+     * @return the port to connect to.
+     */
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @param accountId the account ID
+     * @return {@code true} if {@code accountId} is logged in.
+     */
+    public boolean isConnected(String accountId) {
+        return clients.stream().anyMatch(client -> accountId.equals(client.accountId));
+    }
+
+    /**
+     * Send a raw stanza to every client of {@code accountId}
+     *
+     * @param accountId the account ID
+     * @param stanza    the stanza
+     */
+    public void send(String accountId, String stanza) {
+        for (var client : clients) if (accountId.equals(client.accountId)) client.write(stanza);
+    }
+
+    /**
+     * Send a notification message like the ones the friends and party services send.
+     *
+     * @param accountId the account ID
+     * @param json      the JSON body, ex: {@code {"type":"FRIENDSHIP_REQUEST", ...}}
+     */
+    public void notify(String accountId, String json) {
+        send(accountId, "<message from='" + ADMIN + "' to='" + accountId + "@" + DOMAIN + "' id='" + UUID.randomUUID() + "'>"
+                + "<body>" + escape(json) + "</body></message>");
+    }
+
+    /**
+     * Wait for the next message sent by any client.
+     *
+     * @param timeout the timeout
+     * @param unit    the unit
+     * @return the message stanza or {@code null} if none was sent in time.
+     * @throws InterruptedException if interrupted.
+     */
+    public String takeMessage(long timeout, TimeUnit unit) throws InterruptedException {
+        return messages.poll(timeout, unit);
+    }
+
+    /**
+     * Wait for the next presence sent by any client.
+     *
+     * @param timeout the timeout
+     * @param unit    the unit
+     * @return the presence stanza or {@code null} if none was sent in time.
+     * @throws InterruptedException if interrupted.
+     */
+    public String takePresence(long timeout, TimeUnit unit) throws InterruptedException {
+        return presences.poll(timeout, unit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (var client : clients) client.close();
+        clients.clear();
+    }
+
+    /**
+     * Accept clients until closed.
+     */
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final var client = new Client(serverSocket.accept());
+                final var thread = new Thread(client, "MockXmppServer-client");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException exception) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Route a message to the clients of the recipient.
+     *
+     * @param from    the full JID of the sender
+     * @param message the message
+     */
+    private void route(String from, String message) {
+        final var to = attribute(TO, message);
+        final var stamped = message.replaceFirst("<message", "<message from='" + from + "'");
+        messages.add(stamped);
+        if (to == null) return;
+
+        final var bare = to.contains("/") ? to.substring(0, to.indexOf('/')) : to;
+        for (var client : clients) {
+            if (client.jid != null && (client.jid.equals(to) || client.jid.startsWith(bare + "/"))) client.write(stamped);
+        }
+    }
+
+    private static String attribute(Pattern pattern, String element) {
+        final var end = element.indexOf('>');
+        final var matcher = pattern.matcher(end < 0 ? element : element.substring(0, end));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&apos;").replace("\"", "&quot;");
+    }
+
+    /**
+     * A single client connection, reads top level elements and answers them.
+     */
+    private final class Client implements Runnable {
+
+        private final Socket socket;
+        private final Writer writer;
+        /**
+         * Unprocessed input.
+         */
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean authenticated;
+        private volatile String accountId, jid;
+
+        private Client(Socket socket) throws IOException {
+            this.socket = socket;
+            this.writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void run() {
+            try (var reader = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)) {
+                final var chars = new char[8192];
+                int read;
+                while ((read = reader.read(chars)) != -1) {
+                    buffer.append(chars, 0, read);
+                    if (!process()) break;
+                }
+            } catch (IOException ignored) {
+                // closed.
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Process every complete top level element in the buffer.
+         *
+         * @return {@code false} if the stream was closed.
+         */
+        private boolean process() {
+            var depth = 0;
+            var start = -1;
+            var position = 0;
+            while (true) {
+                final var open = buffer.indexOf("<", position);
+                if (open < 0) return true;
+                final var close = tagEnd(open);
+                if (close < 0) return true;
+                final var tag = buffer.substring(open, close + 1);
+
+                if (depth == 0) {
+                    if (tag.startsWith("<?") || tag.startsWith("<stream:stream") || tag.startsWith("</stream:stream")) {
+                        buffer.delete(0, close + 1);
+                        position = 0;
+                        if (tag.startsWith("</")) {
+                            write("</stream:stream>");
+                            return false;
+                        }
+                        if (tag.startsWith("<stream:stream")) openStream();
+                        continue;
+                    }
+                    start = open;
+                }
+
+                if (tag.startsWith("</")) depth--;
+                else if (!tag.endsWith("/>")) depth++;
+                position = close + 1;
+
+                if (depth == 0) {
+                    final var element = buffer.substring(start, close + 1);
+                    buffer.delete(0, close + 1);
+                    position = 0;
+                    handle(element);
+                }
+            }
+        }
+
+        /**
+         * @param open the index of the opening {@code <}
+         * @return the index of the closing {@code >} of the tag, or {@code -1} if more input is needed.
+         */
+        private int tagEnd(int open) {
+            var quote = 0;
+            for (int i = open + 1; i < buffer.length(); i++) {
+                final var c = buffer.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) quote = 0;
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '>') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Answer a stream header, SASL before authentication and resource binding after.
+         */
+        private void openStream() {
+            final var features = authenticated
+                    ? "<bind xmlns='urn:ietf:params:xml:ns:xmpp-bind'/>"
+                    : "<mechanisms xmlns='urn:ietf:params:xml:ns:xmpp-sasl'><mechanism>PLAIN</mechanism></mechanisms>";
+            write("<?xml version='1.0' encoding='UTF-8'?>"
+                    + "<stream:stream xmlns='jabber:client' xmlns:stream='http://etherx.jabber.org/streams' from='" + DOMAIN + "' id='" + UUID.randomUUID() + "' version='1.0' xml:lang='en'>"
+                    + "<stream:features>" + features + "</stream:features>");
+        }
+
+        /**
+         * Handle a top level element.
+         *
+         * @param element the element
+         */
+        private void handle(String element) {
+            if (element.startsWith("<auth")) {
+                final var matcher = AUTH.matcher(element);
+                if (!matcher.find()) {
+                    write("<failure xmlns='urn:ietf:params:xml:ns:xmpp-sasl'><malformed-request/></failure>");
+                    return;
+                }
+                // authzid \0 authcid \0 password
+                final var plain = new String(Base64.getDecoder().decode(matcher.group(1)), StandardCharsets.UTF_8).split("\0", -1);
+                accountId = plain.length > 1 ? plain[1] : plain[0];
+                authenticated = true;
+                write("<success xmlns='urn:ietf:params:xml:ns:xmpp-sasl'/>");
+            } else if (element.startsWith("<iq")) {
+                final var id = attribute(ID, element);
+                final var type = attribute(TYPE, element);
+                if (element.contains("urn:ietf:params:xml:ns:xmpp-bind")) {
+                    final var resource = RESOURCE.matcher(element);
+                    jid = accountId + "@" + DOMAIN + "/" + (resource.find() ? resource.group(1) : UUID.randomUUID().toString());
+                    clients.add(this);
+                    write("<iq type='result' id='" + id + "'><bind xmlns='urn:ietf:params:xml:ns:xmpp-bind'><jid>" + jid + "</jid></bind></iq>");
+                } else if ("get".equals(type) || "set".equals(type)) {
+                    write("<iq type='result' id='" + id + "'" + (jid == null ? "" : " to='" + jid + "'") + "/>");
+                }
+            } else if (element.startsWith("<message")) {
+                route(jid, element);
+            } else if (element.startsWith("<presence")) {
+                presences.add(element.replaceFirst("<presence", "<presence from='" + jid + "'"));
+            }
+        }
+
+        private void write(String data) {
+            try {
+                synchronized (writer) {
+                    writer.write(data);
+                    writer.flush();
+                }
+            } catch (IOException ignored) {
+                close();
+            }
+        }
+
+        private void close() {
+            clients.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // closing.
+            }
+        }
+    }
+
+}
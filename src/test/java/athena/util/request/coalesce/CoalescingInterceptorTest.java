@@ -0,0 +1,131 @@
+package athena.util.request.coalesce;
+
+import athena.Athena;
+import athena.account.resource.Account;
+import athena.mock.MockEpicServices;
+import athena.util.request.Requests;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Call;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Cancelling coalesced requests against {@link MockEpicServices}
+ * The first display name lookup is held by the server until released so a second one waits on it.
+ */
+public final class CoalescingInterceptorTest {
+
+    private static final String PATH = "/account/account/api/public/account/displayName/" + MockEpicServices.DISPLAY_NAME;
+
+    private final CountDownLatch received = new CountDownLatch(1), release = new CountDownLatch(1);
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private MockEpicServices services;
+    private Athena athena;
+
+    @Before
+    public void start() throws IOException {
+        services = MockEpicServices.start();
+        services.on("GET", "/account/account/api/public/account/displayName/[^/]+", request -> {
+            if (lookups.getAndIncrement() == 0) {
+                received.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return MockEpicServices.json(200, MockEpicServices.fixture("account")
+                    .replace("${accountId}", MockEpicServices.ACCOUNT_ID)
+                    .replace("${displayName}", MockEpicServices.DISPLAY_NAME));
+        });
+        athena = services.configure(new Athena.Builder(MockEpicServices.EMAIL, MockEpicServices.PASSWORD)).coalesceRequests().build();
+    }
+
+    @After
+    public void stop() throws IOException {
+        release.countDown();
+        if (athena != null) athena.close();
+        services.close();
+    }
+
+    @Test
+    public void canceledLeaderHandsOverToWaitingRequest() throws Exception {
+        // logging in already sent some GET requests.
+        final var executed = athena.coalescingInterceptor().executed();
+        final var leaderCall = lookup();
+        final var leader = Requests.executeCallAsync(leaderCall);
+        assertTrue("The lookup never reached the server.", received.await(5, TimeUnit.SECONDS));
+        final var follower = Requests.executeCallAsync(lookup());
+        awaitCoalesced();
+
+        leaderCall.cancel();
+
+        // the waiting request is sent again instead of failing with the leader.
+        assertEquals(MockEpicServices.DISPLAY_NAME, follower.get(5, TimeUnit.SECONDS).displayName());
+        assertFailed(leader);
+        assertEquals(2, services.count("GET", PATH));
+        assertEquals(executed + 2, athena.coalescingInterceptor().executed());
+    }
+
+    @Test
+    public void canceledWaitingRequestStopsWaiting() throws Exception {
+        final var leader = Requests.executeCallAsync(lookup());
+        assertTrue("The lookup never reached the server.", received.await(5, TimeUnit.SECONDS));
+        final var followerCall = lookup();
+        final var follower = Requests.executeCallAsync(followerCall);
+        awaitCoalesced();
+
+        followerCall.cancel();
+
+        // the leader is still held by the server.
+        assertFailed(follower);
+        assertTrue(!leader.isDone());
+
+        release.countDown();
+        assertEquals(MockEpicServices.DISPLAY_NAME, leader.get(5, TimeUnit.SECONDS).displayName());
+        assertEquals(1, services.count("GET", PATH));
+    }
+
+    private Call<Account> lookup() {
+        return athena.accountPublicService().findByDisplayName(MockEpicServices.DISPLAY_NAME);
+    }
+
+    /**
+     * Wait until the second lookup is waiting on the first.
+     */
+    private void awaitCoalesced() throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (athena.coalescingInterceptor().coalesced() == 0) {
+            if (System.nanoTime() - deadline > 0) fail("The second lookup was not coalesced.");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Assert that {@code future} fails within 2 seconds.
+     */
+    private static void assertFailed(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get(2, TimeUnit.SECONDS);
+            fail("The canceled lookup succeeded.");
+        } catch (ExecutionException expected) {
+            // canceled.
+        } catch (TimeoutException exception) {
+            fail("The canceled lookup is still waiting.");
+        }
+    }
+
+}